@@ -0,0 +1,151 @@
+package com.intelli.automation.benchmarks;
+
+import com.intelli.automation.utils.ConfigReader;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Benchmark runner following Intelli-Test framework
+ * Runs the framework benchmarks with the GC profiler, reporting ops/sec and bytes
+ * allocated per operation; full JMH results go to jmh-result.json in metrics.output.dir.
+ * Modes: run only reports; save also stores the results as the baseline; compare
+ * reports every benchmark slower or allocating more than benchmark.tolerance.pct
+ * beyond the baseline and exits non-zero if there is one
+ */
+public final class BenchmarkRunner {
+
+    private static final String PACKAGE = BenchmarkRunner.class.getPackage().getName();
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    /** Allocation changes below this many bytes per op are noise, e.g. from escape analysis */
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run the benchmarks
+     * @param args [run|save|compare] [benchmark name regex]
+     * @throws Exception if the benchmarks cannot run or the baseline cannot be read or written
+     */
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0].toLowerCase(Locale.ROOT) : "run";
+        String include = args.length > 1 ? args[1] : PACKAGE + ".*";
+        Path baseline = Paths.get(ConfigReader.getBenchmarkBaselineFile());
+
+        Properties results = toProperties(run(include));
+        switch (mode) {
+            case "run":
+                break;
+            case "save":
+                save(results, baseline);
+                break;
+            case "compare":
+                List<String> regressions = compare(results, load(baseline),
+                    ConfigReader.getBenchmarkTolerancePercent());
+                if (!regressions.isEmpty()) {
+                    System.out.println("❌ " + regressions.size() + " benchmark regression(s) against " + baseline + ":");
+                    regressions.forEach(regression -> System.out.println("  " + regression));
+                    System.exit(1);
+                }
+                System.out.println("✅ No benchmark regressions against " + baseline);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode + "; use run, save or compare");
+        }
+    }
+
+    private static Collection<RunResult> run(String include) throws IOException, RunnerException {
+        Path outputDir = Files.createDirectories(Paths.get(ConfigReader.getMetricsOutputDir()));
+        return new Runner(new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(outputDir.resolve("jmh-result.json").toString())
+            .build()).run();
+    }
+
+    /**
+     * Flatten results to benchmark.ops and benchmark.bytes entries
+     */
+    private static Properties toProperties(Collection<RunResult> runs) {
+        Properties results = new Properties();
+        for (RunResult run : runs) {
+            String name = run.getParams().getBenchmark().substring(PACKAGE.length() + 1);
+            results.setProperty(name + ".ops", String.valueOf(run.getPrimaryResult().getScore()));
+            for (Map.Entry<String, Result> secondary : run.getSecondaryResults().entrySet()) {
+                // Older JMH versions prefix profiler results with a middle dot
+                if (secondary.getKey().replace("·", "").equals(ALLOCATION)) {
+                    results.setProperty(name + ".bytes", String.valueOf(secondary.getValue().getScore()));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Find benchmarks whose throughput dropped or allocation grew beyond the tolerance
+     * Benchmarks missing from the baseline are new and never regressions
+     */
+    static List<String> compare(Properties results, Properties baseline, int tolerancePercent) {
+        double tolerance = tolerancePercent / 100.0;
+        List<String> regressions = new ArrayList<>();
+        for (String key : new TreeSet<>(results.stringPropertyNames())) {
+            String stored = baseline.getProperty(key);
+            if (stored == null) {
+                continue;
+            }
+            double before = Double.parseDouble(stored);
+            double now = Double.parseDouble(results.getProperty(key));
+            boolean regressed = key.endsWith(".ops")
+                ? now < before * (1 - tolerance)
+                : now > before * (1 + tolerance) && now - before > ALLOCATION_SLACK_BYTES;
+            if (regressed) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.1f -> %.1f (%+.1f%%)", key, before, now,
+                    before == 0 ? 100.0 : (now - before) / before * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static Properties load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalStateException("No benchmark baseline at " + file.toAbsolutePath()
+                + "; store one with the save mode first");
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            baseline.load(in);
+        }
+        return baseline;
+    }
+
+    private static void save(Properties results, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            results.store(out, "Framework benchmark baseline: .ops in ops/s, .bytes in bytes allocated per op");
+        }
+        System.out.println("💾 Benchmark baseline written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,48 @@
+package com.intelli.automation.benchmarks;
+
+import com.intelli.automation.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Config benchmark following Intelli-Test framework
+ * ConfigReader lookups made on every page, wait and text entry
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigBenchmark {
+
+    /**
+     * Parsed integer, cached in the snapshot
+     */
+    @Benchmark
+    public int getTimeout() {
+        return ConfigReader.getTimeout();
+    }
+
+    /**
+     * String lookup with a fallback key, as made per text entry
+     */
+    @Benchmark
+    public String getTextEntryMode() {
+        return ConfigReader.getTextEntryMode("SamplePage.inputField");
+    }
+
+    /**
+     * Base URL, which first checks the fixture server
+     */
+    @Benchmark
+    public String getBaseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+}
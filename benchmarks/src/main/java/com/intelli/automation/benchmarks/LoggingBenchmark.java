@@ -0,0 +1,47 @@
+package com.intelli.automation.benchmarks;
+
+import com.intelli.automation.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging benchmark following Intelli-Test framework
+ * Cost of the debug statements on hot page-object paths when DEBUG is off
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final Logger LOG = Logger.getLogger(LoggingBenchmark.class);
+
+    private final String text = "123";
+
+    /**
+     * Disabled debug call with an argument, as in sendKeysToElement
+     */
+    @Benchmark
+    public void debugWithArgument() {
+        LOG.debug("⌨️ Typed text: {}", text);
+    }
+
+    /**
+     * Disabled debug call with a lazily evaluated argument, as in clickElement
+     */
+    @Benchmark
+    public void debugWithSupplier() {
+        LOG.debug("🖱️ Clicked element: {}", text::toString);
+    }
+}
@@ -0,0 +1,77 @@
+package com.intelli.automation.benchmarks;
+
+import com.intelli.automation.base.ElementCache;
+import com.intelli.automation.pages.SamplePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page benchmark following Intelli-Test framework
+ * Page-object construction, text entry and locator resolution against the stub driver
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageBenchmark {
+
+    private static final By INPUT = By.tagName("input");
+
+    private StubDriver driver;
+    private SamplePage page;
+    private ElementCache cache;
+
+    @Setup
+    public void setUp() {
+        driver = new StubDriver();
+        page = new SamplePage(driver);
+        cache = new ElementCache(driver);
+    }
+
+    /**
+     * New page: explicit wait, element cache and generated field binding
+     */
+    @Benchmark
+    public SamplePage constructPage() {
+        return new SamplePage(driver);
+    }
+
+    /**
+     * sendKeysToElement path: entry-mode lookup, visibility wait, clear, type and debug logging
+     */
+    @Benchmark
+    public void typeInInputField() {
+        page.typeInInputField("123");
+    }
+
+    /**
+     * Locator served from the element cache of an unchanged document
+     */
+    @Benchmark
+    public WebElement findCached() {
+        return cache.find(INPUT);
+    }
+
+    /**
+     * Locator resolved again after a navigation invalidated the cache
+     */
+    @Benchmark
+    public WebElement findAfterNavigation() {
+        ElementCache.documentChanged(driver);
+        return cache.find(INPUT);
+    }
+}
@@ -0,0 +1,191 @@
+package com.intelli.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stub WebDriver following Intelli-Test framework
+ * Answers every command in-process with a canned element, so benchmarks measure
+ * the framework's own cost rather than a browser's. Not thread-safe: one per benchmark thread
+ */
+final class StubDriver implements WebDriver {
+
+    private static final String HANDLE = "stub-window";
+
+    private final StubElement element = new StubElement();
+    private long finds;
+
+    /**
+     * Get number of element lookups that reached the driver
+     * @return Lookup count
+     */
+    long getFindCount() {
+        return finds;
+    }
+
+    @Override
+    public void get(String url) {
+        element.value.setLength(0);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "http://stub.local/inputs";
+    }
+
+    @Override
+    public String getTitle() {
+        return "The Internet";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        finds++;
+        return Collections.singletonList(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        finds++;
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton(HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    /**
+     * A visible, enabled text field
+     */
+    private static final class StubElement implements WebElement {
+        private final StringBuilder value = new StringBuilder();
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            for (CharSequence keys : keysToSend) {
+                value.append(keys);
+            }
+        }
+
+        @Override
+        public void clear() {
+            value.setLength(0);
+        }
+
+        @Override
+        public String getTagName() {
+            return "input";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return "value".equals(name) ? value.toString() : null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return "";
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new UnsupportedOperationException("Not used by the benchmarks");
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(200, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            throw new UnsupportedOperationException("Not used by the benchmarks");
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.intelli.automation.artifacts;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.CommandMetrics;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Failure artifacts following Intelli-Test framework
+ * Captures a failed test's screenshot, page source, browser console log and command
+ * trace in one pass while its session is still on the failed page, then compresses and
+ * writes them as one zip on a background thread so the session can go back to the pool
+ * at once. Zips beyond the disk budget are deleted oldest first; the newest is always kept
+ */
+public final class FailureArtifacts {
+
+    private static final Logger LOG = Logger.getLogger(FailureArtifacts.class);
+
+    private static final String EXTENSION = ".zip";
+    private static final int PENDING_LIMIT = 8;
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private static FailureArtifacts instance;
+
+    private final Path directory;
+    private final long budgetBytes;
+    // Only touched by the writer thread: zips on disk, oldest first
+    private final Deque<Path> files = new ArrayDeque<>();
+    private long usedBytes = -1;
+
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong captureNanos = new AtomicLong();
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+
+    // One writer keeps eviction simple; a full queue makes the failing test write its own zip
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(PENDING_LIMIT), task -> {
+            Thread thread = new Thread(task, "failure-artifacts");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * Create failure artifact storage
+     * @param directory Directory receiving the zips
+     * @param budgetBytes Disk space the zips may use
+     */
+    public FailureArtifacts(Path directory, long budgetBytes) {
+        this.directory = directory;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Get the shared instance configured by artifacts.dir and artifacts.budget.mb
+     * @return Failure artifacts
+     */
+    public static synchronized FailureArtifacts getInstance() {
+        if (instance == null || instance.writer.isShutdown()) {
+            instance = new FailureArtifacts(Paths.get(ConfigReader.getFailureArtifactsDir()),
+                ConfigReader.getFailureArtifactsBudgetMb() * 1024L * 1024L);
+        }
+        return instance;
+    }
+
+    /**
+     * Capture the state of a failed test's session and queue it for writing
+     * Each part is optional: what the driver cannot provide is left out
+     * @param driver Session still showing the failed page
+     * @param testName Qualified test method name
+     * @param failure Failure of the test, or null
+     * @param startMillis Test start; console messages logged before it are dropped
+     */
+    public void capture(WebDriver driver, String testName, Throwable failure, long startMillis) {
+        long start = System.nanoTime();
+        // Read the trace before the capture's own commands are added to it
+        List<String> commands = CommandMetrics.getTrace();
+        Map<String, byte[]> parts = new LinkedHashMap<>();
+        StringBuilder summary = new StringBuilder("test: ").append(testName).append('\n');
+        try {
+            summary.append("url: ").append(driver.getCurrentUrl()).append('\n')
+                .append("title: ").append(driver.getTitle()).append('\n');
+        } catch (WebDriverException e) {
+            summary.append("session: ").append(e.getClass().getSimpleName()).append('\n');
+        }
+        summary.append("captured: ").append(Instant.now()).append('\n');
+        if (failure != null) {
+            StringWriter trace = new StringWriter();
+            failure.printStackTrace(new PrintWriter(trace));
+            summary.append('\n').append(trace);
+        }
+        parts.put("failure.txt", utf8(summary));
+        if (driver instanceof TakesScreenshot) {
+            try {
+                parts.put("screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+            } catch (WebDriverException e) {
+                LOG.debug("Screenshot unavailable: {}", e.getMessage());
+            }
+        }
+        try {
+            parts.put("page-source.html", utf8(driver.getPageSource()));
+        } catch (WebDriverException e) {
+            LOG.debug("Page source unavailable: {}", e.getMessage());
+        }
+        try {
+            StringBuilder console = new StringBuilder();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                if (entry.getTimestamp() >= startMillis) {
+                    console.append(entry).append('\n');
+                }
+            }
+            parts.put("console.log", utf8(console));
+        } catch (WebDriverException e) {
+            LOG.debug("Browser console log unavailable: {}", e.getMessage());
+        }
+        if (!commands.isEmpty()) {
+            parts.put("commands.txt", utf8(String.join("\n", commands) + "\n"));
+        }
+        captured.incrementAndGet();
+        captureNanos.addAndGet(System.nanoTime() - start);
+
+        Path file = directory.resolve(fileName(testName) + "-" + LocalDateTime.now().format(STAMP) + EXTENSION);
+        writer.execute(() -> write(file, parts));
+    }
+
+    /**
+     * Wait for queued zips to be written and stop the writer
+     * @param timeoutMillis Longest time to wait
+     * @return true if every zip was written in time
+     */
+    public boolean shutdown(long timeoutMillis) {
+        writer.shutdown();
+        try {
+            return writer.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Get failure artifact statistics
+     * @return Formatted summary
+     */
+    public String getSummary() {
+        long count = captured.get();
+        return String.format("captured=%d, avgCapture=%.1f ms, written=%.1f MB, evicted=%d, writeFailures=%d",
+            count, count == 0 ? 0 : captureNanos.get() / (double) count / 1_000_000,
+            writtenBytes.get() / (1024.0 * 1024.0), evicted.get(), writeFailures.get());
+    }
+
+    private void write(Path file, Map<String, byte[]> parts) {
+        try {
+            Files.createDirectories(directory);
+            Path partial = directory.resolve(file.getFileName() + ".tmp");
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(partial))) {
+                for (Map.Entry<String, byte[]> part : parts.entrySet()) {
+                    // PNG data is already compressed; deflating it again only costs time
+                    zip.setLevel(part.getKey().endsWith(".png") ? Deflater.NO_COMPRESSION : Deflater.BEST_SPEED);
+                    zip.putNextEntry(new ZipEntry(part.getKey()));
+                    zip.write(part.getValue());
+                    zip.closeEntry();
+                }
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(file);
+            writtenBytes.addAndGet(size);
+            enforceBudget(file, size);
+            LOG.info("📸 Failure artifacts written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            writeFailures.incrementAndGet();
+            LOG.warn("⚠️ Could not write failure artifacts {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the oldest zips until the directory fits the budget again
+     * Zips from earlier runs count too; they are listed once, on the first write
+     */
+    private void enforceBudget(Path written, long size) throws IOException {
+        if (usedBytes < 0) {
+            usedBytes = 0;
+            List<Path> existing = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                for (Path path : stream) {
+                    if (!path.equals(written)) {
+                        existing.add(path);
+                    }
+                }
+            }
+            existing.sort(Comparator.comparingLong(FailureArtifacts::lastModified));
+            for (Path path : existing) {
+                files.addLast(path);
+                usedBytes += sizeOf(path);
+            }
+        }
+        files.addLast(written);
+        usedBytes += size;
+        while (usedBytes > budgetBytes && files.size() > 1) {
+            Path oldest = files.removeFirst();
+            long oldestSize = sizeOf(oldest);
+            Files.deleteIfExists(oldest);
+            usedBytes -= oldestSize;
+            evicted.incrementAndGet();
+        }
+    }
+
+    private static String fileName(String testName) {
+        return testName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static byte[] utf8(CharSequence text) {
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
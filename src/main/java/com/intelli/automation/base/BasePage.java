@@ -1,26 +1,131 @@
 package com.intelli.automation.base;
 
+import com.intelli.automation.driver.DriverManager;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.PageLoadStats;
+import com.intelli.automation.metrics.PagePerformance;
+import com.intelli.automation.utils.ConfigReader;
+import com.intelli.automation.wait.DomWait;
+import com.intelli.automation.wait.ElementCondition;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.chromium.HasCdp;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Base page class following Intelli-Test framework
  * Provides common page object functionality
+ * Page objects are thread-confined: create one per test thread.
+ * {@code @FindBy} fields are bound by the *Elements class generated for each page
+ * at compile time; subclasses call its bind method from their constructors
  */
 public abstract class BasePage {
     
+    private static final Logger LOG = Logger.getLogger(BasePage.class);
+    
+    /**
+     * Finds the native value setter of arguments[0]'s prototype chain, which frameworks
+     * such as React observe instead of the value property itself
+     */
+    private static final String SETTER_FUNCTION =
+        "function setter(el) {"
+        + "  for (var p = Object.getPrototypeOf(el); p; p = Object.getPrototypeOf(p)) {"
+        + "    var d = Object.getOwnPropertyDescriptor(p, 'value');"
+        + "    if (d && d.set) { return d.set; }"
+        + "  }"
+        + "  return null;"
+        + "}";
+    
+    /**
+     * Focuses arguments[0] and assigns arguments[1] through its value setter, firing input;
+     * change is fired too unless arguments[2] is false
+     */
+    private static final String SET_VALUE_SCRIPT =
+        SETTER_FUNCTION
+        + "var el = arguments[0], set = setter(el);"
+        + "el.focus();"
+        + "if (set) { set.call(el, arguments[1]); } else { el.value = arguments[1]; }"
+        + "el.dispatchEvent(new Event('input', {bubbles: true}));"
+        + "if (arguments[2]) { el.dispatchEvent(new Event('change', {bubbles: true})); }";
+    
+    private static final String DISPATCH_CHANGE_SCRIPT =
+        "arguments[0].dispatchEvent(new Event('change', {bubbles: true}));";
+    
+    /**
+     * Assigns arguments[1][i] to arguments[0][i] (null skips the assignment) through the
+     * element's native value setter, fires input/change, and snapshots the field after each step
+     */
+    private static final String FILL_AND_SNAPSHOT_SCRIPT =
+        "var fields = arguments[0], values = arguments[1], out = [];"
+        + SETTER_FUNCTION
+        + "for (var i = 0; i < fields.length; i++) {"
+        + "  var el = fields[i], v = values[i];"
+        + "  if (v !== null) {"
+        + "    var set = setter(el);"
+        + "    if (set) { set.call(el, v); } else { el.value = v; }"
+        + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+        + "    el.dispatchEvent(new Event('change', {bubbles: true}));"
+        + "  }"
+        + "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();"
+        + "  out.push({"
+        + "    value: el.value == null ? '' : String(el.value),"
+        + "    displayed: style.display !== 'none' && style.visibility !== 'hidden'"
+        + "      && (rect.width > 0 || rect.height > 0),"
+        + "    enabled: !el.disabled,"
+        + "    valid: el.validity ? el.validity.valid : true,"
+        + "    validationMessage: el.validationMessage || ''"
+        + "  });"
+        + "}"
+        + "return out;";
+    
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected DomWait wait;
+    protected ElementCache elements;
+    
+    /**
+     * Create a page bound to the current test thread's WebDriver
+     */
+    protected BasePage() {
+        this(DriverManager.getDriver());
+    }
     
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.wait = new DomWait(driver, Duration.ofSeconds(ConfigReader.getTimeout()));
+        this.elements = new ElementCache(driver);
+    }
+    
+    /**
+     * Load a URL and start a new document for every element cache on this driver
+     * Page timings are then captured and checked against the page's budgets
+     * @param url The URL to load
+     */
+    protected void open(String url) {
+        PageLoadStats.navigate(driver, url);
+        ElementCache.documentChanged(driver);
+        PagePerformance.capture(driver, url);
+    }
+    
+    /**
+     * Find an element through the page's element cache
+     * Repeated lookups of the same locator on the same document cost no browser call
+     * @param locator Element locator
+     * @return Stale-aware handle to the located element
+     */
+    protected WebElement findElement(By locator) {
+        ElementHandle handle = elements.handle(locator);
+        // Locate now so a missing element fails here, as findElement would
+        handle.getWrappedElement();
+        return handle;
     }
     
     /**
@@ -28,7 +133,7 @@ public abstract class BasePage {
      * @param element WebElement to wait for
      */
     protected void waitForElementToBeClickable(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        wait.untilClickable(element);
     }
     
     /**
@@ -36,7 +141,7 @@ public abstract class BasePage {
      * @param element WebElement to wait for
      */
     protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        wait.untilVisible(element);
     }
     
     /**
@@ -46,19 +151,93 @@ public abstract class BasePage {
     protected void clickElement(WebElement element) {
         waitForElementToBeClickable(element);
         element.click();
-        System.out.println("🖱️ Clicked element: " + element.getText());
+        // Element text is only fetched from the browser when DEBUG is enabled
+        LOG.debug("🖱️ Clicked element: {}", element::getText);
     }
     
     /**
      * Send keys to element with wait
+     * The entry mode comes from text.entry.mode.Page.field or text.entry.mode; in auto mode
+     * short text is typed key by key and long text is entered in one call
      * @param element WebElement to type in
      * @param text Text to type
      */
     protected void sendKeysToElement(WebElement element, String text) {
+        enterText(element, text, textEntryMode(element, text));
+    }
+    
+    /**
+     * Replace the text of an element with wait
+     * Fast modes fire input and change like typing does, but no key events; text holding
+     * {@link org.openqa.selenium.Keys} is always typed natively
+     * @param element WebElement to type in
+     * @param text Text to enter
+     * @param mode How the text is entered
+     */
+    protected void enterText(WebElement element, String text, TextEntryMode mode) {
         waitForElementToBeVisible(element);
-        element.clear();
-        element.sendKeys(text);
-        System.out.println("⌨️ Typed text: " + text);
+        if (mode == TextEntryMode.NATIVE_KEYS || !(driver instanceof JavascriptExecutor) || hasKeyCodes(text)) {
+            element.clear();
+            element.sendKeys(text);
+            LOG.debug("⌨️ Typed text: {}", text);
+        } else if (mode == TextEntryMode.INSERT_TEXT && driver instanceof HasCdp) {
+            // Input.insertText goes to the focused element, so clear and focus it first
+            executeOnElement(SET_VALUE_SCRIPT, element, "", false);
+            if (!text.isEmpty()) {
+                ((HasCdp) driver).executeCdpCommand("Input.insertText", Collections.singletonMap("text", text));
+            }
+            executeOnElement(DISPATCH_CHANGE_SCRIPT, element);
+            LOG.debug("⌨️ Inserted {} chars", text.length());
+        } else {
+            executeOnElement(SET_VALUE_SCRIPT, element, text, true);
+            LOG.debug("⌨️ Set value of {} chars", text.length());
+        }
+    }
+    
+    /**
+     * Choose the entry mode configured for an element
+     * @param element Element to type in
+     * @param text Text to enter
+     * @return Configured mode, or the auto choice for the text length and driver
+     */
+    protected TextEntryMode textEntryMode(WebElement element, String text) {
+        String field = element instanceof ElementHandle ? ((ElementHandle) element).getName() : null;
+        TextEntryMode mode = TextEntryMode.parse(ConfigReader.getTextEntryMode(field));
+        if (mode != null) {
+            return mode;
+        }
+        if (text.length() < ConfigReader.getTextEntryFastMinChars()) {
+            return TextEntryMode.NATIVE_KEYS;
+        }
+        return driver instanceof HasCdp ? TextEntryMode.INSERT_TEXT : TextEntryMode.VALUE_SETTER;
+    }
+    
+    private void executeOnElement(String script, WebElement element, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = element;
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        try {
+            ((JavascriptExecutor) driver).executeScript(script, scriptArgs);
+        } catch (StaleElementReferenceException e) {
+            if (!(element instanceof ElementHandle)) {
+                throw e;
+            }
+            ((ElementHandle) element).invalidate();
+            ((JavascriptExecutor) driver).executeScript(script, scriptArgs);
+        }
+    }
+    
+    /**
+     * Check for characters in the private-use block that {@link org.openqa.selenium.Keys} maps to keys
+     */
+    private static boolean hasKeyCodes(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\uE000' && c <= '\uE0FF') {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -72,16 +251,95 @@ public abstract class BasePage {
     }
     
     /**
-     * Check if element is displayed
+     * Check if element is displayed, without waiting
      * @param element WebElement to check
      * @return true if displayed, false otherwise
      */
     protected boolean isElementDisplayed(WebElement element) {
+        return wait.isSatisfied(ElementCondition.VISIBLE, element);
+    }
+    
+    /**
+     * Fill fields and read back their state in a single browser round trip
+     * The same element may appear more than once; a snapshot is taken after each entry
+     * @param elements Fields to fill, in order
+     * @param values Values to enter, null to only snapshot the field
+     * @param mode How the text is entered
+     * @return Snapshot of each field after its entry
+     */
+    protected List<FieldSnapshot> fillFields(List<WebElement> elements, List<String> values, TextEntryMode mode) {
+        if (elements.size() != values.size()) {
+            throw new IllegalArgumentException("Got " + elements.size() + " fields but " + values.size() + " values");
+        }
+        if (mode != TextEntryMode.VALUE_SETTER) {
+            List<FieldSnapshot> snapshots = new ArrayList<>(elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                if (values.get(i) != null) {
+                    enterText(elements.get(i), values.get(i), mode);
+                }
+                snapshots.add(snapshotFields(elements.get(i)).get(0));
+            }
+            return snapshots;
+        }
+        if (!(driver instanceof JavascriptExecutor)) {
+            return fillFieldsOneByOne(elements, values);
+        }
+        Object result;
         try {
-            return element.isDisplayed();
-        } catch (Exception e) {
-            return false;
+            result = ((JavascriptExecutor) driver).executeScript(FILL_AND_SNAPSHOT_SCRIPT, elements, values);
+        } catch (StaleElementReferenceException e) {
+            // Handles passed their last located element to the script; locate them again and retry once
+            for (WebElement element : elements) {
+                if (element instanceof ElementHandle) {
+                    ((ElementHandle) element).invalidate();
+                }
+            }
+            result = ((JavascriptExecutor) driver).executeScript(FILL_AND_SNAPSHOT_SCRIPT, elements, values);
+        }
+        List<FieldSnapshot> snapshots = new ArrayList<>(elements.size());
+        for (Object state : (List<?>) result) {
+            snapshots.add(FieldSnapshot.fromScriptResult((Map<?, ?>) state));
+        }
+        return snapshots;
+    }
+    
+    /**
+     * Fill fields through their value setters in a single browser round trip
+     * @param elements Fields to fill, in order
+     * @param values Values to enter
+     * @return Snapshot of each field after its entry
+     */
+    protected List<FieldSnapshot> fillFields(List<WebElement> elements, List<String> values) {
+        return fillFields(elements, values, TextEntryMode.VALUE_SETTER);
+    }
+    
+    /**
+     * Read the state of several fields in a single browser round trip
+     * @param elements Fields to snapshot
+     * @return Snapshot of each field
+     */
+    protected List<FieldSnapshot> snapshotFields(WebElement... elements) {
+        return fillFields(Arrays.asList(elements), Arrays.asList(new String[elements.length]),
+            TextEntryMode.VALUE_SETTER);
+    }
+    
+    /**
+     * Fallback for drivers that cannot execute scripts
+     */
+    private List<FieldSnapshot> fillFieldsOneByOne(List<WebElement> elements, List<String> values) {
+        List<FieldSnapshot> snapshots = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            WebElement element = elements.get(i);
+            if (values.get(i) != null) {
+                element.clear();
+                element.sendKeys(values.get(i));
+            }
+            String value = element.getAttribute("value");
+            // Constraint validation is not visible without scripts; leave it unknown rather than guess
+            snapshots.add(new FieldSnapshot(value == null ? "" : value, element.isDisplayed(),
+                element.isEnabled(), null, ""));
         }
+        return snapshots;
     }
     
     /**
@@ -1,52 +1,130 @@
 package com.intelli.automation.base;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.intelli.automation.artifacts.FailureArtifacts;
+import com.intelli.automation.driver.DriverManager;
+import com.intelli.automation.driver.DriverPool;
+import com.intelli.automation.logging.LogContext;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.PageLoadStats;
+import com.intelli.automation.metrics.SessionTelemetry;
+import com.intelli.automation.proxy.RecordReplayProxy;
+import com.intelli.automation.utils.ConfigReader;
+import com.intelli.automation.wait.DomWait;
+import com.intelli.automation.wait.WaitStats;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.WebElement;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.time.Duration;
 
 /**
  * Base test class following Intelli-Test framework
  * Provides common WebDriver setup and teardown functionality
+ * Drivers are thread-confined so test methods can run in parallel
  */
 public class BaseTest {
     
-    protected WebDriver driver;
-    protected WebDriverWait wait;
+    private static final Logger LOG = Logger.getLogger(BaseTest.class);
+    
+    private static final long SUITE_END_FLUSH_MILLIS = 2000;
+    private static final long ARTIFACT_WRITE_MILLIS = 30000;
+    private static final ThreadLocal<DomWait> WAIT = new ThreadLocal<>();
+    private static final ThreadLocal<ElementCache> ELEMENTS = new ThreadLocal<>();
     
     @BeforeMethod
-    public void setUp() {
-        // Setup Chrome WebDriver using WebDriverManager
-        WebDriverManager.chromedriver().setup();
-        
-        // Configure Chrome options
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-popup-blocking");
+    public void setUp(Method method) {
+        // Correlate log output from this thread with the running test
+        LogContext.setTest(getClass().getSimpleName() + "." + method.getName());
         
-        // Initialize WebDriver
-        driver = new ChromeDriver(options);
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        // Lease a warm WebDriver session from the shared pool
+        WebDriver driver = DriverPool.getInstance().lease();
+        DriverManager.setDriver(driver);
         
-        // Initialize WebDriverWait
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        // Initialize explicit wait; implicit waits stay disabled
+        WAIT.set(new DomWait(driver, Duration.ofSeconds(ConfigReader.getTimeout())));
+        ELEMENTS.set(new ElementCache(driver));
         
-        System.out.println("🚀 WebDriver initialized successfully");
+        LOG.debug("🚀 WebDriver leased successfully");
+    }
+    
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        if (DriverManager.hasDriver()) {
+            if (result.getStatus() == ITestResult.FAILURE && ConfigReader.isFailureArtifactsEnabled()) {
+                // Read the failed page now; compression and disk writes happen in the background
+                FailureArtifacts.getInstance().capture(DriverManager.getDriver(),
+                    getClass().getSimpleName() + "." + result.getMethod().getMethodName(), result.getThrowable(),
+                    result.getStartMillis());
+            }
+            DriverPool.getInstance().release(DriverManager.getDriver());
+            DriverManager.unload();
+            WAIT.remove();
+            ELEMENTS.remove();
+            LOG.debug("🔚 WebDriver returned to pool");
+        }
+        LogContext.clear();
     }
     
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            System.out.println("🔚 WebDriver closed successfully");
+    @AfterSuite(alwaysRun = true)
+    public void shutDownDriverPool() {
+        DriverPool pool = DriverPool.getInstance();
+        LOG.info("📊 Driver pool stats: {}", pool.getStatsSummary());
+        LOG.info("⏱️ Wait stats:{}", WaitStats.getSummary());
+        LOG.info("🗂️ Element cache stats: {}", ElementCache.getSummary());
+        LOG.info("🚦 Page load stats:{}", PageLoadStats.getSummary());
+        try {
+            PageLoadStats.saveBaseline();
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not save page load baseline: {}", e.getMessage());
         }
+        pool.shutdown();
+        RecordReplayProxy.stop();
+        FailureArtifacts artifacts = FailureArtifacts.getInstance();
+        if (!artifacts.shutdown(ARTIFACT_WRITE_MILLIS)) {
+            LOG.warn("⚠️ Failure artifacts still being written after {} ms", ARTIFACT_WRITE_MILLIS);
+        }
+        LOG.info("📸 Failure artifact stats: {}", artifacts.getSummary());
+        try {
+            SessionTelemetry.export();
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not write session telemetry: {}", e.getMessage());
+        }
+        Logger.flush(SUITE_END_FLUSH_MILLIS);
+    }
+    
+    /**
+     * Get the WebDriver bound to the current test thread
+     * @return WebDriver
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+    
+    /**
+     * Get the wait bound to the current test thread
+     * @return DomWait
+     */
+    protected DomWait getWait() {
+        return WAIT.get();
+    }
+    
+    /**
+     * Find an element through the current test thread's element cache
+     * Repeated lookups of the same locator on the same document cost no browser call
+     * @param locator Element locator
+     * @return Stale-aware handle to the located element
+     */
+    protected WebElement findElement(By locator) {
+        ElementHandle handle = ELEMENTS.get().handle(locator);
+        // Locate now so a missing element fails here, as findElement would
+        handle.getWrappedElement();
+        return handle;
     }
     
     /**
@@ -54,8 +132,9 @@ public class BaseTest {
      * @param url The URL to navigate to
      */
     protected void navigateTo(String url) {
-        driver.get(url);
-        System.out.println("🌐 Navigated to: " + url);
+        PageLoadStats.navigate(getDriver(), url);
+        ElementCache.documentChanged(getDriver());
+        LOG.info("🌐 Navigated to: {}", url);
     }
     
     /**
@@ -63,7 +142,7 @@ public class BaseTest {
      * @return Page title
      */
     protected String getPageTitle() {
-        return driver.getTitle();
+        return getDriver().getTitle();
     }
     
     /**
@@ -71,6 +150,6 @@ public class BaseTest {
      * @return Current URL
      */
     protected String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        return getDriver().getCurrentUrl();
     }
 } 
@@ -0,0 +1,196 @@
+package com.intelli.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Element cache following Intelli-Test framework
+ * Remembers located elements per locator for one page object and the document it
+ * is showing. Navigating through the framework starts a new document and empties
+ * the cache; elements replaced any other way go stale and are located again by
+ * their {@link ElementHandle}. Thread-confined like the page that owns it
+ */
+public final class ElementCache {
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder STALE = new LongAdder();
+
+    /** Document generation per driver, bumped on every navigation; entries go when their driver is collected */
+    private static final Map<DriverKey, AtomicLong> DOCUMENTS = new HashMap<>();
+    private static final ReferenceQueue<WebDriver> COLLECTED = new ReferenceQueue<>();
+
+    private final WebDriver driver;
+    private final AtomicLong document;
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private long cachedGeneration;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+        this.document = document(driver);
+        this.cachedGeneration = document.get();
+    }
+
+    /**
+     * Record that a driver now shows a new document; every cache bound to it empties on next use
+     * @param driver Driver that navigated
+     */
+    public static void documentChanged(WebDriver driver) {
+        document(driver).incrementAndGet();
+    }
+
+    private static AtomicLong document(WebDriver driver) {
+        synchronized (DOCUMENTS) {
+            for (Reference<? extends WebDriver> collected = COLLECTED.poll(); collected != null;
+                    collected = COLLECTED.poll()) {
+                DOCUMENTS.remove(collected);
+            }
+            AtomicLong document = DOCUMENTS.get(new DriverKey(driver, null));
+            if (document == null) {
+                document = new AtomicLong();
+                DOCUMENTS.put(new DriverKey(driver, COLLECTED), document);
+            }
+            return document;
+        }
+    }
+
+    /**
+     * Get a stale-aware handle for a locator; nothing is located until it is used
+     * @param locator Element locator
+     * @return Handle resolved through this cache
+     */
+    public ElementHandle handle(By locator) {
+        return new ElementHandle(this, null, locator);
+    }
+
+    /**
+     * Get a stale-aware handle for a page-object field
+     * @param name Page.field, used to look up per-field settings
+     * @param locator Element locator
+     * @return Handle resolved through this cache
+     */
+    public ElementHandle handle(String name, By locator) {
+        return new ElementHandle(this, name, locator);
+    }
+
+    /**
+     * Get the element for a locator, locating it only if this document has not cached it yet
+     * @param locator Element locator
+     * @return Located element
+     */
+    public WebElement find(By locator) {
+        long generation = document.get();
+        if (generation != cachedGeneration) {
+            elements.clear();
+            cachedGeneration = generation;
+        }
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            HITS.increment();
+            return element;
+        }
+        MISSES.increment();
+        element = driver.findElement(locator);
+        elements.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Drop an element that went stale so the next lookup locates it again
+     * @param locator Element locator
+     */
+    void evictStale(By locator) {
+        if (elements.remove(locator) != null) {
+            STALE.increment();
+        }
+    }
+
+    /**
+     * Drop every cached element
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Get number of lookups answered from a cache, i.e. findElement calls saved
+     * @return Hits across all threads
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Get number of lookups that had to call findElement
+     * @return Misses across all threads
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Get number of cached elements found stale and located again
+     * @return Stale evictions across all threads
+     */
+    public static long getStaleCount() {
+        return STALE.sum();
+    }
+
+    /**
+     * Get cache effectiveness summary
+     * @return Hits, misses, hit ratio and stale evictions
+     */
+    public static String getSummary() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return String.format("hits=%d, misses=%d, hit ratio=%.1f%%, stale=%d", hits, getMisses(),
+            lookups == 0 ? 0 : 100.0 * hits / lookups, getStaleCount());
+    }
+
+    /**
+     * Clear all counters
+     */
+    public static void resetStats() {
+        HITS.reset();
+        MISSES.reset();
+        STALE.reset();
+    }
+
+    /**
+     * Weak identity key: decorated drivers are proxies whose equals/hashCode are remote-call wrappers
+     */
+    private static final class DriverKey extends WeakReference<WebDriver> {
+        private final int hash;
+
+        DriverKey(WebDriver driver, ReferenceQueue<WebDriver> queue) {
+            super(driver, queue);
+            this.hash = System.identityHashCode(driver);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof DriverKey)) {
+                return false;
+            }
+            WebDriver driver = get();
+            return driver != null && driver == ((DriverKey) other).get();
+        }
+    }
+}
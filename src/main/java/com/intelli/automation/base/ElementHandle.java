@@ -0,0 +1,181 @@
+package com.intelli.automation.base;
+
+import com.intelli.automation.wait.Relocatable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Stale-aware element handle following Intelli-Test framework
+ * Resolves its locator through an {@link ElementCache} on each use; when the element
+ * has gone stale (navigation, DOM replacement) it is located again and the command
+ * retried once. Assigned to page-object fields by the generated *Elements binders
+ */
+public final class ElementHandle implements WebElement, WrapsElement, Relocatable {
+
+    private final ElementCache cache;
+    private final String name;
+    private final By locator;
+
+    ElementHandle(ElementCache cache, String name, By locator) {
+        this.cache = cache;
+        this.name = name;
+        this.locator = locator;
+    }
+
+    /**
+     * Get the page-object field this handle is bound to
+     * @return Page.field, or null for handles not bound to a field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the locator this handle resolves
+     * @return Locator
+     */
+    public By getLocator() {
+        return locator;
+    }
+
+    @Override
+    public void invalidate() {
+        cache.evictStale(locator);
+    }
+
+    /**
+     * Get the located element, locating it if needed
+     * Callers that pass it to the browser directly should {@link #invalidate()} on a stale reference
+     * @return Located element
+     */
+    @Override
+    public WebElement getWrappedElement() {
+        return cache.find(locator);
+    }
+
+    private <T> T call(Function<WebElement, T> command) {
+        try {
+            return command.apply(getWrappedElement());
+        } catch (StaleElementReferenceException e) {
+            invalidate();
+            return command.apply(getWrappedElement());
+        }
+    }
+
+    private void run(Consumer<WebElement> command) {
+        call(located -> {
+            command.accept(located);
+            return null;
+        });
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(located -> located.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(located -> located.getAttribute(name));
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(located -> located.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(located -> located.getDomAttribute(name));
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(located -> located.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(located -> located.findElement(by));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(located -> located.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(located -> located.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "ElementHandle(" + (name == null ? "" : name + " = ") + locator + ")";
+    }
+}
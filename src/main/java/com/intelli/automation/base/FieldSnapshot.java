@@ -0,0 +1,105 @@
+package com.intelli.automation.base;
+
+import java.util.Map;
+
+/**
+ * Field snapshot following Intelli-Test framework
+ * Immutable state of a form field captured in a single browser call.
+ * Validity is only known when the driver could run the snapshot script
+ */
+public final class FieldSnapshot {
+
+    private final String value;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final Boolean valid;
+    private final String validationMessage;
+
+    /**
+     * Create a snapshot
+     * @param value Current value
+     * @param displayed Whether the field is displayed
+     * @param enabled Whether the field is enabled
+     * @param valid Constraint validation result, or null if the driver cannot tell
+     * @param validationMessage Browser validation message
+     */
+    public FieldSnapshot(String value, boolean displayed, boolean enabled, Boolean valid, String validationMessage) {
+        this.value = value;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.valid = valid;
+        this.validationMessage = validationMessage;
+    }
+
+    /**
+     * Build a snapshot from the map returned by the snapshot script
+     * @param state Script result
+     * @return Field snapshot
+     */
+    static FieldSnapshot fromScriptResult(Map<?, ?> state) {
+        return new FieldSnapshot(
+            String.valueOf(state.get("value")),
+            Boolean.TRUE.equals(state.get("displayed")),
+            Boolean.TRUE.equals(state.get("enabled")),
+            Boolean.TRUE.equals(state.get("valid")),
+            String.valueOf(state.get("validationMessage")));
+    }
+
+    /**
+     * Get field value
+     * @return Current value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Check if field is displayed
+     * @return true if displayed, false otherwise
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Check if field is enabled
+     * @return true if enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if the field's constraint validation state was captured
+     * @return true if known, false for drivers that cannot run scripts
+     */
+    public boolean isValidityKnown() {
+        return valid != null;
+    }
+
+    /**
+     * Check if field passes constraint validation
+     * @return true if valid, false otherwise
+     * @throws IllegalStateException if validity is unknown; see {@link #isValidityKnown()}
+     */
+    public boolean isValid() {
+        if (valid == null) {
+            throw new IllegalStateException("Validity of this field is unknown: the driver cannot run scripts");
+        }
+        return valid;
+    }
+
+    /**
+     * Get browser validation message
+     * @return Validation message, empty when valid
+     */
+    public String getValidationMessage() {
+        return validationMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSnapshot{value='" + value + "', displayed=" + displayed + ", enabled=" + enabled
+            + ", valid=" + valid + ", validationMessage='" + validationMessage + "'}";
+    }
+}
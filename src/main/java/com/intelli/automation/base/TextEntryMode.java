@@ -0,0 +1,47 @@
+package com.intelli.automation.base;
+
+import java.util.Locale;
+
+/**
+ * Text entry modes following Intelli-Test framework
+ */
+public enum TextEntryMode {
+
+    /**
+     * Real keystrokes through WebDriver sendKeys, firing native key events
+     */
+    NATIVE_KEYS,
+
+    /**
+     * Value assigned through the element's value setter in one script call,
+     * followed by synthetic input and change events
+     */
+    VALUE_SETTER,
+
+    /**
+     * Text inserted in one DevTools Input.insertText call, which fires the browser's
+     * own input events like a paste; change is dispatched afterwards
+     */
+    INSERT_TEXT;
+
+    /**
+     * Parse a configured mode
+     * @param value native, setter, insert or auto, case-insensitive
+     * @return Mode, or null for auto
+     */
+    public static TextEntryMode parse(String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "native":
+                return NATIVE_KEYS;
+            case "setter":
+                return VALUE_SETTER;
+            case "insert":
+                return INSERT_TEXT;
+            case "auto":
+                return null;
+            default:
+                throw new IllegalArgumentException(
+                    "Unknown text entry mode '" + value + "', expected native, setter, insert or auto");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.intelli.automation.data;
+
+/**
+ * Input case following Intelli-Test framework
+ * One row of an input matrix: a value entered into a field and the result expected
+ */
+public final class InputCase {
+
+    private final String id;
+    private final String field;
+    private final String value;
+    private final String expected;
+    private final Boolean valid;
+
+    /**
+     * Create an input case
+     * @param id Source location used in reports, e.g. cases.csv:12
+     * @param field Page-object field name
+     * @param value Value to enter
+     * @param expected Field value expected after entry
+     * @param valid Expected validity, or null to not check it
+     */
+    public InputCase(String id, String field, String value, String expected, Boolean valid) {
+        this.id = id;
+        this.field = field;
+        this.value = value;
+        this.expected = expected;
+        this.valid = valid;
+    }
+
+    /**
+     * Get source location of the case
+     * @return Case id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Get page-object field name
+     * @return Field name
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Get value to enter
+     * @return Value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Get field value expected after entry
+     * @return Expected value
+     */
+    public String getExpected() {
+        return expected;
+    }
+
+    /**
+     * Get expected validity
+     * @return Expected validity, or null if not checked
+     */
+    public Boolean getValid() {
+        return valid;
+    }
+
+    @Override
+    public String toString() {
+        return id + " " + field + "='" + value + "'";
+    }
+}
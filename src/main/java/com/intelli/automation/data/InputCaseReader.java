@@ -0,0 +1,257 @@
+package com.intelli.automation.data;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Input case reader following Intelli-Test framework
+ * Streams input cases from a CSV or JSON file one at a time, so files of any size
+ * run in constant memory.
+ * CSV files start with a header naming the columns field, value, expected and valid;
+ * JSON files hold an array of objects with the same keys. Only value is required:
+ * field defaults to inputField, expected to the value itself when the column or key is
+ * absent, and valid is not checked when blank
+ */
+public abstract class InputCaseReader implements Iterator<InputCase>, Closeable {
+
+    static final String DEFAULT_FIELD = "inputField";
+
+    private final String source;
+    private InputCase next;
+    private boolean done;
+
+    InputCaseReader(Path file) {
+        this.source = String.valueOf(file.getFileName());
+    }
+
+    /**
+     * Open a case file, choosing the format from its extension
+     * @param file .csv or .json file
+     * @return Reader positioned before the first case
+     * @throws IOException If the file cannot be opened
+     */
+    public static InputCaseReader open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        if (name.endsWith(".json")) {
+            return new JsonCases(file, reader);
+        }
+        if (name.endsWith(".csv")) {
+            return new CsvCases(file, reader);
+        }
+        reader.close();
+        throw new IllegalArgumentException("Input cases must be a .csv or .json file: " + file);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = read();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read input cases from " + source, e);
+            }
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public InputCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        InputCase current = next;
+        next = null;
+        return current;
+    }
+
+    /**
+     * Read the next case
+     * @return Case, or null at the end of the file
+     */
+    abstract InputCase read() throws IOException;
+
+    InputCase toCase(String location, Map<String, String> row) {
+        String value = row.get("value");
+        if (value == null) {
+            throw new IllegalArgumentException(source + ":" + location + " has no value");
+        }
+        String field = blankToNull(row.get("field"));
+        String expected = row.get("expected");
+        String valid = blankToNull(row.get("valid"));
+        return new InputCase(source + ":" + location, field == null ? DEFAULT_FIELD : field, value,
+            expected == null ? value : expected, valid == null ? null : Boolean.valueOf(valid.trim()));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
+    /**
+     * RFC 4180 CSV: quoted cells may hold commas, doubled quotes and line breaks;
+     * quotes inside an unquoted cell are kept as they are
+     */
+    private static final class CsvCases extends InputCaseReader {
+        private final BufferedReader reader;
+        private final List<String> header;
+        private int line;
+
+        CsvCases(Path file, BufferedReader reader) throws IOException {
+            super(file);
+            this.reader = reader;
+            List<String> columns = readRow();
+            if (columns == null) {
+                columns = new ArrayList<>();
+            }
+            List<String> names = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                names.add(column.trim().toLowerCase(Locale.ROOT));
+            }
+            this.header = names;
+        }
+
+        @Override
+        InputCase read() throws IOException {
+            List<String> cells;
+            int start;
+            do {
+                start = line + 1;
+                cells = readRow();
+            } while (cells != null && cells.size() == 1 && cells.get(0).isEmpty());
+            if (cells == null) {
+                return null;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < cells.size(); i++) {
+                row.put(header.get(i), cells.get(i));
+            }
+            return toCase(String.valueOf(start), row);
+        }
+
+        private List<String> readRow() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // Line break inside a quoted cell
+                    text = reader.readLine();
+                    if (text == null) {
+                        throw new IOException("Unterminated quoted cell at line " + line);
+                    }
+                    line++;
+                    cell.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        cell.append(c);
+                    } else if (i < text.length() && text.charAt(i) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"' && cell.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            cells.add(cell.toString());
+            return cells;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON array of case objects, parsed as a stream
+     */
+    private static final class JsonCases extends InputCaseReader {
+        private final JsonInput input;
+        private int index;
+        private boolean started;
+
+        JsonCases(Path file, BufferedReader reader) {
+            super(file);
+            this.input = new Json().newInput(reader);
+        }
+
+        @Override
+        InputCase read() {
+            if (!started) {
+                input.beginArray();
+                started = true;
+            }
+            if (!input.hasNext()) {
+                input.endArray();
+                return null;
+            }
+            Map<String, String> row = new HashMap<>();
+            input.beginObject();
+            while (input.hasNext()) {
+                String name = input.nextName().toLowerCase(Locale.ROOT);
+                row.put(name, readScalar());
+            }
+            input.endObject();
+            return toCase("[" + index++ + "]", row);
+        }
+
+        private String readScalar() {
+            JsonType type = input.peek();
+            switch (type) {
+                case NULL:
+                    input.nextNull();
+                    return null;
+                case BOOLEAN:
+                    return String.valueOf(input.nextBoolean());
+                case NUMBER:
+                    return String.valueOf(input.nextNumber());
+                case STRING:
+                    return input.nextString();
+                default:
+                    throw new IllegalArgumentException("Input case values must be scalars, got " + type);
+            }
+        }
+
+        @Override
+        public void close() {
+            input.close();
+        }
+    }
+}
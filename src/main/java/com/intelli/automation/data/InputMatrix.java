@@ -0,0 +1,238 @@
+package com.intelli.automation.data;
+
+import com.intelli.automation.base.FieldSnapshot;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.pages.SamplePage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input matrix following Intelli-Test framework
+ * Runs streamed input cases against {@link SamplePage} in batches: the page is loaded
+ * once per batch and the whole batch is entered and read back in one browser call.
+ * Between cases the field used by the previous case is reset to empty. Every case is
+ * checked on its own, and failures are written to a CSV report as they happen.
+ * Values are assigned like a script would, so results only match a real browser on
+ * drivers that can run scripts; elsewhere they are typed and validity cannot be checked
+ */
+public final class InputMatrix {
+
+    private static final Logger LOG = Logger.getLogger(InputMatrix.class);
+    private static final int REPORTED_FAILURES = 20;
+
+    private final SamplePage page;
+    private final String url;
+    private final int batchSize;
+    private final Path failureReport;
+
+    /**
+     * Create an input matrix
+     * @param page Page the cases are entered into
+     * @param url URL loaded at the start of each batch
+     * @param batchSize Cases per page load
+     * @param failureReport CSV file receiving one row per failed case, or null for none
+     */
+    public InputMatrix(SamplePage page, String url, int batchSize, Path failureReport) {
+        this.page = page;
+        this.url = url;
+        this.batchSize = Math.max(1, batchSize);
+        this.failureReport = failureReport;
+    }
+
+    /**
+     * Run every case
+     * @param cases Cases, consumed as they are run
+     * @return Outcome of the run
+     * @throws IOException If the failure report cannot be written
+     */
+    public Result run(Iterator<InputCase> cases) throws IOException {
+        long start = System.nanoTime();
+        Result result = new Result();
+        BufferedWriter report = null;
+        if (failureReport != null) {
+            Path parent = failureReport.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            report = Files.newBufferedWriter(failureReport, StandardCharsets.UTF_8);
+            report.write("case,field,value,expected,actual,valid,message\n");
+        }
+        try {
+            List<InputCase> batch = new ArrayList<>(batchSize);
+            while (cases.hasNext()) {
+                batch.add(cases.next());
+                if (batch.size() == batchSize || !cases.hasNext()) {
+                    runBatch(batch, result, report);
+                    batch.clear();
+                }
+            }
+        } finally {
+            if (report != null) {
+                report.close();
+            }
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        LOG.info("📋 Input matrix: {} cases in {} batches, {} failed, {} cases/hour",
+            result.total, result.batches, result.failed, result.getCasesPerHour());
+        return result;
+    }
+
+    private void runBatch(List<InputCase> batch, Result result, BufferedWriter report) throws IOException {
+        page.navigateToInputsPage(url);
+        result.batches++;
+        List<FieldSnapshot> snapshots;
+        int[] caseEntries;
+        try {
+            List<String> fields = new ArrayList<>(batch.size() * 2);
+            List<String> values = new ArrayList<>(batch.size() * 2);
+            caseEntries = new int[batch.size()];
+            String previousField = null;
+            for (int i = 0; i < batch.size(); i++) {
+                InputCase inputCase = batch.get(i);
+                if (previousField != null && !previousField.equals(inputCase.getField())) {
+                    // The case's own entry replaces the value of its field; reset the field the last case used
+                    fields.add(previousField);
+                    values.add("");
+                }
+                caseEntries[i] = fields.size();
+                fields.add(inputCase.getField());
+                values.add(inputCase.getValue());
+                previousField = inputCase.getField();
+            }
+            snapshots = page.enterFieldValues(fields, values);
+        } catch (RuntimeException e) {
+            // One case broke the batch call; run the batch case by case to find which
+            LOG.warn("⚠️ Input matrix batch failed ({}); retrying its {} cases one by one", e.toString(), batch.size());
+            runOneByOne(batch, result, report);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            check(batch.get(i), snapshots.get(caseEntries[i]), result, report);
+        }
+    }
+
+    private void runOneByOne(List<InputCase> batch, Result result, BufferedWriter report) throws IOException {
+        page.navigateToInputsPage(url);
+        for (InputCase inputCase : batch) {
+            FieldSnapshot snapshot;
+            try {
+                snapshot = page.enterFieldValues(Collections.singletonList(inputCase.getField()),
+                    Collections.singletonList(inputCase.getValue())).get(0);
+            } catch (RuntimeException e) {
+                fail(inputCase, null, e.toString(), result, report);
+                continue;
+            }
+            check(inputCase, snapshot, result, report);
+            try {
+                page.enterFieldValues(Collections.singletonList(inputCase.getField()), Collections.singletonList(""));
+            } catch (RuntimeException e) {
+                // The failure is already recorded for this case
+            }
+        }
+    }
+
+    private void check(InputCase inputCase, FieldSnapshot snapshot, Result result, BufferedWriter report)
+            throws IOException {
+        if (!Objects.equals(inputCase.getExpected(), snapshot.getValue())) {
+            fail(inputCase, snapshot, "value mismatch", result, report);
+        } else if (inputCase.getValid() != null && !snapshot.isValidityKnown()) {
+            fail(inputCase, snapshot, "validity unknown: the driver cannot run scripts", result, report);
+        } else if (inputCase.getValid() != null && inputCase.getValid() != snapshot.isValid()) {
+            fail(inputCase, snapshot, "validity mismatch: " + snapshot.getValidationMessage(), result, report);
+        } else {
+            result.total++;
+        }
+    }
+
+    private void fail(InputCase inputCase, FieldSnapshot snapshot, String message, Result result,
+            BufferedWriter report) throws IOException {
+        result.total++;
+        result.failed++;
+        String actual = snapshot == null ? "" : snapshot.getValue();
+        String valid = snapshot == null || !snapshot.isValidityKnown() ? "" : String.valueOf(snapshot.isValid());
+        if (result.failures.size() < REPORTED_FAILURES) {
+            result.failures.add(inputCase + ": expected '" + inputCase.getExpected() + "' but was '" + actual
+                + "' (" + message + ")");
+        }
+        if (report != null) {
+            report.write(String.join(",", csv(inputCase.getId()), csv(inputCase.getField()),
+                csv(inputCase.getValue()), csv(inputCase.getExpected()), csv(actual),
+                csv(valid), csv(message)));
+            report.write('\n');
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Outcome of an input matrix run
+     */
+    public static final class Result {
+        private final List<String> failures = new ArrayList<>();
+        private long total;
+        private long failed;
+        private long batches;
+        private long elapsedNanos;
+
+        /**
+         * Get number of cases run
+         * @return Case count
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * Get number of failed cases
+         * @return Failure count
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Get number of page loads
+         * @return Batch count
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * Get throughput of the run
+         * @return Cases per hour
+         */
+        public long getCasesPerHour() {
+            return elapsedNanos == 0 ? 0 : (long) (total * (double) TimeUnit.HOURS.toNanos(1) / elapsedNanos);
+        }
+
+        /**
+         * Get descriptions of the first failed cases
+         * @return Up to 20 failures, in run order
+         */
+        public List<String> getFailures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        @Override
+        public String toString() {
+            return failed + " of " + total + " input cases failed" + (failures.isEmpty() ? "" : ":\n  "
+                + String.join("\n  ", failures) + (failed > failures.size() ? "\n  ..." : ""));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.intelli.automation.driver;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Driver binary resolver following Intelli-Test framework
+ * Resolves the chromedriver binary once per JVM, offline when configured
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger LOG = Logger.getLogger(DriverBinaryResolver.class);
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final String MANIFEST_FILE = "driver.properties";
+    private static final Pattern MAJOR_VERSION = Pattern.compile("(\\d+)\\.\\d+");
+
+    private static volatile String resolvedPath;
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Resolve the chromedriver binary, doing the work only on the first call
+     * @return Path of the chromedriver binary
+     */
+    public static String resolve() {
+        String path = resolvedPath;
+        if (path != null) {
+            return path;
+        }
+        synchronized (DriverBinaryResolver.class) {
+            if (resolvedPath == null) {
+                long start = System.nanoTime();
+                String source;
+                if (ConfigReader.isDriverOffline()) {
+                    resolvedPath = resolveOffline();
+                    source = "offline path";
+                } else {
+                    Optional<String> cached = resolveFromCache();
+                    source = cached.isPresent() ? "local cache" : "WebDriverManager";
+                    resolvedPath = cached.orElseGet(DriverBinaryResolver::resolveWithWebDriverManager);
+                }
+                System.setProperty(DRIVER_PROPERTY, resolvedPath);
+                LOG.info("🧭 Driver binary resolved from {} in {} ms: {}", source,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), resolvedPath);
+            }
+            return resolvedPath;
+        }
+    }
+
+    /**
+     * Use the preconfigured chromedriver path without touching the network
+     */
+    private static String resolveOffline() {
+        String configured = ConfigReader.getChromeDriverPath();
+        if (configured == null || configured.isEmpty()) {
+            throw new IllegalStateException("driver.offline is set but chromedriver.path is not configured");
+        }
+        if (!Files.isExecutable(Paths.get(configured))) {
+            throw new IllegalStateException("Configured chromedriver is not an executable file: " + configured);
+        }
+        return configured;
+    }
+
+    /**
+     * Look up a driver previously resolved for the installed browser's major version
+     */
+    private static Optional<String> resolveFromCache() {
+        Optional<String> browserMajor = detectBrowserMajorVersion();
+        if (!browserMajor.isPresent()) {
+            return Optional.empty();
+        }
+        Path manifest = manifestFor(browserMajor.get());
+        if (!Files.isRegularFile(manifest)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        String driverPath = properties.getProperty("driver.path");
+        if (driverPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+            return Optional.empty();
+        }
+        return Optional.of(driverPath);
+    }
+
+    private static String resolveWithWebDriverManager() {
+        WebDriverManager manager = WebDriverManager.chromedriver()
+            .cachePath(getCacheDir().toString());
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        if (driverPath == null) {
+            throw new IllegalStateException("WebDriverManager did not provide a chromedriver path; "
+                + "set driver.offline with chromedriver.path to use a local binary");
+        }
+        Optional<String> driverMajor = majorVersion(manager.getDownloadedDriverVersion());
+        if (driverMajor.isPresent()) {
+            writeManifest(driverMajor.get(), driverPath, manager.getDownloadedDriverVersion());
+        }
+        return driverPath;
+    }
+
+    private static void writeManifest(String major, String driverPath, String driverVersion) {
+        Path manifest = manifestFor(major);
+        Properties properties = new Properties();
+        properties.setProperty("driver.path", driverPath);
+        properties.setProperty("driver.version", driverVersion);
+        try {
+            Files.createDirectories(manifest.getParent());
+            try (Writer writer = Files.newBufferedWriter(manifest, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Resolved chromedriver for Chrome " + major);
+            }
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not write driver cache manifest: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Detect the installed browser version locally, or use chrome.version if configured
+     */
+    private static Optional<String> detectBrowserMajorVersion() {
+        String configured = ConfigReader.getProperty("chrome.version");
+        if (configured != null) {
+            return majorVersion(configured);
+        }
+        if (System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win")) {
+            // Running the browser binary on Windows opens a window instead of printing the version
+            return Optional.empty();
+        }
+        try {
+            Optional<Path> browserPath = WebDriverManager.chromedriver().getBrowserPath();
+            if (!browserPath.isPresent()) {
+                return Optional.empty();
+            }
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                .redirectErrorStream(true)
+                .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                process.waitFor(5, TimeUnit.SECONDS);
+                return line == null ? Optional.empty() : majorVersion(line);
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> majorVersion(String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = MAJOR_VERSION.matcher(version);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    private static Path manifestFor(String major) {
+        return getCacheDir().resolve("chrome-" + major).resolve(MANIFEST_FILE);
+    }
+
+    private static Path getCacheDir() {
+        return Paths.get(ConfigReader.getDriverCacheDir());
+    }
+}
@@ -0,0 +1,93 @@
+package com.intelli.automation.driver;
+
+import com.intelli.automation.driver.fake.FakeWebDriver;
+import com.intelli.automation.metrics.CommandTimingListener;
+import com.intelli.automation.proxy.RecordReplayProxy;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Driver factory following Intelli-Test framework
+ * Creates and configures new browser sessions
+ */
+public final class DriverFactory {
+
+    private static final int SCRIPT_TIMEOUT_MARGIN = 5;
+    private static final CommandTimingListener TIMING_LISTENER = new CommandTimingListener();
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Create a new configured WebDriver session
+     * @return New WebDriver instance
+     */
+    public static WebDriver createDriver() {
+        WebDriver driver = "fake".equalsIgnoreCase(ConfigReader.getBrowser())
+            ? new FakeWebDriver()
+            : createChromeDriver();
+        AtomicLong blocked = FastProfile.isEnabled() ? FastProfile.intercept(driver) : null;
+
+        // Time every command unless disabled
+        if (ConfigReader.isCommandMetricsEnabled()) {
+            driver = new EventFiringDecorator<WebDriver>(TIMING_LISTENER).decorate(driver);
+        }
+        if (blocked != null) {
+            FastProfile.track(driver, blocked);
+        }
+        // Implicit waits stay off: they multiply with explicit waits and slow negative checks
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(ConfigReader.getTimeout() + SCRIPT_TIMEOUT_MARGIN));
+        return driver;
+    }
+
+    private static WebDriver createChromeDriver() {
+        // Resolve chromedriver once per JVM
+        DriverBinaryResolver.resolve();
+
+        // Configure Chrome options
+        ChromeOptions options = new ChromeOptions();
+        if (FastProfile.isEnabled()) {
+            FastProfile.apply(options);
+        } else if (ConfigReader.isHeadless()) {
+            options.addArguments("--headless=new", "--window-size=1280,800");
+        } else {
+            options.addArguments("--start-maximized");
+        }
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        if (ConfigReader.getTabLimit() > 1) {
+            // TabScheduler keeps pages loading in background tabs; stop Chrome from throttling them
+            options.addArguments("--disable-background-timer-throttling");
+            options.addArguments("--disable-renderer-backgrounding");
+            options.addArguments("--disable-backgrounding-occluded-windows");
+        }
+        if (ConfigReader.isFailureArtifactsEnabled()) {
+            // Keep console messages so failure artifacts can include them
+            LoggingPreferences logging = new LoggingPreferences();
+            logging.enable(LogType.BROWSER, Level.ALL);
+            options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        }
+        
+        // Route page loads through the record/replay proxy when proxy.mode is set
+        String proxy = RecordReplayProxy.start();
+        if (proxy != null) {
+            options.setProxy(new Proxy().setHttpProxy(proxy).setSslProxy(proxy));
+            // Chrome bypasses proxies for loopback hosts, which is where the fixture server listens
+            options.addArguments("--proxy-bypass-list=<-loopback>");
+        }
+
+        return new ChromeDriver(options);
+    }
+}
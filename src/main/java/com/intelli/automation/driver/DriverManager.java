@@ -0,0 +1,50 @@
+package com.intelli.automation.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Driver manager following Intelli-Test framework
+ * Binds one WebDriver to each test thread so tests can run in parallel
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    /**
+     * Get the WebDriver bound to the current thread
+     * @return WebDriver for this thread
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    /**
+     * Check if a WebDriver is bound to the current thread
+     * @return true if bound, false otherwise
+     */
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    /**
+     * Bind a WebDriver to the current thread
+     * @param driver WebDriver to bind
+     */
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    /**
+     * Remove the WebDriver bound to the current thread
+     */
+    public static void unload() {
+        DRIVER.remove();
+    }
+}
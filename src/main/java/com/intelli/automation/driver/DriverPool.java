@@ -0,0 +1,440 @@
+package com.intelli.automation.driver;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.SessionTelemetry;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver pool following Intelli-Test framework
+ * Leases warm WebDriver sessions to tests and resets them on return
+ * Sessions can be launched in the background ahead of demand, hiding Chrome's start-up
+ * time behind suite initialization and running tests
+ */
+public final class DriverPool {
+
+    private static final Logger LOG = Logger.getLogger(DriverPool.class);
+    private static final long LAUNCH_POLL_MILLIS = 50;
+    private static final String CLEARED_STORAGE_TYPES =
+        "local_storage,indexeddb,websql,cache_storage,service_workers,file_systems";
+
+    private static DriverPool instance;
+    private static boolean shutdownHookAdded;
+
+    private final int size;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    // Identity keys: decorated drivers are proxies whose equals/hashCode are remote-call wrappers
+    private final Map<WebDriver, PooledSession> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong recycled = new AtomicLong();
+    // Sessions alive or being launched, bounded by the pool size for background launches
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicInteger launching = new AtomicInteger();
+    private final AtomicLong prewarmed = new AtomicLong();
+    private final AtomicLong hiddenLaunchNanos = new AtomicLong();
+    private final AtomicLong exposedLaunchNanos = new AtomicLong();
+    private final AtomicLong firstLeaseMillis = new AtomicLong(-1);
+    private final ExecutorService launcher = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "driver-launch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean closed;
+
+    DriverPool(int size, int maxUses, long leaseTimeoutMillis) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + size);
+        }
+        this.size = size;
+        this.maxUses = maxUses;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Get the shared pool, creating it from configuration on first use
+     * @return Driver pool
+     */
+    public static synchronized DriverPool getInstance() {
+        if (instance == null || instance.closed) {
+            instance = new DriverPool(ConfigReader.getPoolSize(), ConfigReader.getPoolMaxUses(),
+                TimeUnit.SECONDS.toMillis(ConfigReader.getPoolLeaseTimeout()));
+            if (!shutdownHookAdded) {
+                // One hook for the JVM: it quits whichever pool is current at exit
+                Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdownCurrent, "driver-pool-shutdown"));
+                shutdownHookAdded = true;
+            }
+        }
+        return instance;
+    }
+
+    private static void shutdownCurrent() {
+        DriverPool current;
+        synchronized (DriverPool.class) {
+            current = instance;
+        }
+        if (current != null && !current.closed) {
+            current.shutdown();
+        }
+    }
+
+    /**
+     * Start launching sessions in the background
+     * Tests that lease before a launch completes wait for it instead of starting another
+     * @param count Sessions to launch; capped so the pool never holds more than its size
+     */
+    public void prewarm(int count) {
+        int started = 0;
+        while (started < count && launchInBackground()) {
+            started++;
+        }
+        if (started > 0) {
+            LOG.info("🔥 Pre-warming {} WebDriver session(s) in the background", started);
+        }
+    }
+
+    /**
+     * Lease a healthy session, blocking until one is free
+     * @return Leased WebDriver
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(leaseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                    + " ms waiting for a pooled WebDriver session");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver session", e);
+        }
+        try {
+            PooledSession session = takeHealthySession();
+            session.uses++;
+            leased.put(session.driver, session);
+            recordWait(System.nanoTime() - start);
+            if (firstLeaseMillis.get() < 0) {
+                firstLeaseMillis.compareAndSet(-1,
+                    System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+            }
+            SessionTelemetry.sample(session.id, session.driver, "lease");
+            if (idle.isEmpty() && ConfigReader.isPoolLaunchAheadEnabled()) {
+                // Idle sessions ran out; have the next one ready before a test asks for it
+                launchInBackground();
+            }
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased session to the pool
+     * @param driver WebDriver obtained from {@link #lease()}
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            return;
+        }
+        try {
+            SessionTelemetry.sample(session.id, session.driver, "release");
+            if (closed) {
+                quit(session);
+            } else if (maxUses > 0 && session.uses >= maxUses) {
+                recycled.incrementAndGet();
+                quit(session);
+            } else if (ConfigReader.isTelemetryLeakRecycleEnabled() && SessionTelemetry.isLeaking(session.id)) {
+                recycled.incrementAndGet();
+                quit(session);
+            } else if (!reset(session.driver)) {
+                evicted.incrementAndGet();
+                quit(session);
+            } else {
+                idle.offerFirst(session);
+            }
+            if (!closed && idle.isEmpty() && ConfigReader.isPoolLaunchAheadEnabled()) {
+                // The session was quit; replace it before the next lease
+                launchInBackground();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit every idle and leased session
+     */
+    public void shutdown() {
+        closed = true;
+        launcher.shutdown();
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quit(session);
+        }
+        synchronized (leased) {
+            for (PooledSession leasedSession : leased.values()) {
+                quit(leasedSession);
+            }
+            leased.clear();
+        }
+    }
+
+    /**
+     * Get pool statistics including lease wait times
+     * @return Summary line
+     */
+    public String getStatsSummary() {
+        long count = leases.get();
+        double avgWaitMs = count == 0 ? 0 : totalWaitNanos.get() / (double) count / 1_000_000;
+        return String.format("leases=%d, avgWait=%.1f ms, maxWait=%.1f ms, created=%d, evicted=%d, recycled=%d, "
+            + "prewarmed=%d, hiddenLaunch=%.1f s, exposedLaunch=%.1f s, timeToFirstTest=%d ms",
+            count, avgWaitMs, maxWaitNanos.get() / 1_000_000.0, created.get(), evicted.get(), recycled.get(),
+            prewarmed.get(), hiddenLaunchNanos.get() / 1e9, exposedLaunchNanos.get() / 1e9, firstLeaseMillis.get());
+    }
+
+    private PooledSession takeHealthySession() {
+        long start = System.nanoTime();
+        PooledSession session;
+        while ((session = nextIdle()) != null) {
+            if (isHealthy(session.driver)) {
+                if (session.launchNanos > 0) {
+                    // First lease of a background launch: the part not yet done when the test asked was exposed
+                    long exposed = Math.min(session.launchNanos, Math.max(0, session.readyAt - start));
+                    exposedLaunchNanos.addAndGet(exposed);
+                    hiddenLaunchNanos.addAndGet(session.launchNanos - exposed);
+                    session.launchNanos = 0;
+                }
+                return session;
+            }
+            evicted.incrementAndGet();
+            quit(session);
+        }
+        live.incrementAndGet();
+        try {
+            session = new PooledSession(DriverFactory.createDriver());
+        } catch (RuntimeException e) {
+            live.decrementAndGet();
+            throw e;
+        }
+        created.incrementAndGet();
+        exposedLaunchNanos.addAndGet(System.nanoTime() - start);
+        return session;
+    }
+
+    /**
+     * Take an idle session, waiting for background launches still in flight
+     * @return Idle session, or null if there is none and none is launching
+     */
+    private PooledSession nextIdle() {
+        PooledSession session = idle.pollFirst();
+        try {
+            while (session == null && launching.get() > 0) {
+                session = idle.pollFirst(LAUNCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver session to launch", e);
+        }
+        return session;
+    }
+
+    /**
+     * Launch one session on a background thread and add it to the idle sessions
+     * @return true if a launch was started, false if the pool is full or closed
+     */
+    private boolean launchInBackground() {
+        if (closed) {
+            return false;
+        }
+        int current;
+        do {
+            current = live.get();
+            if (current >= size) {
+                return false;
+            }
+        } while (!live.compareAndSet(current, current + 1));
+        launching.incrementAndGet();
+        try {
+            launcher.execute(this::launch);
+        } catch (RuntimeException e) {
+            // Launcher shut down concurrently
+            launching.decrementAndGet();
+            live.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void launch() {
+        long start = System.nanoTime();
+        try {
+            PooledSession session = new PooledSession(DriverFactory.createDriver());
+            session.readyAt = System.nanoTime();
+            session.launchNanos = session.readyAt - start;
+            created.incrementAndGet();
+            prewarmed.incrementAndGet();
+            // Behind released sessions, which are already warm
+            idle.offerLast(session);
+            if (closed && idle.remove(session)) {
+                // Shut down while launching
+                quit(session);
+            }
+        } catch (RuntimeException e) {
+            live.decrementAndGet();
+            LOG.warn("⚠️ Background WebDriver launch failed: {}", e.toString());
+        } finally {
+            launching.decrementAndGet();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        leases.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring a session back to a blank state: one window, no cookies, no storage
+     * With CDP, local storage, IndexedDB and caches are cleared for every http(s) origin in the
+     * tabs' history. sessionStorage is only cleared for the origin loaded in the primary tab;
+     * earlier origins of that tab keep theirs, and without CDP so does their local storage
+     */
+    private static boolean reset(WebDriver driver) {
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            Set<String> handles = driver.getWindowHandles();
+            String primary = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(primary)) {
+                    driver.switchTo().window(handle);
+                    collectVisitedOrigins(driver, origins);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(primary);
+            collectVisitedOrigins(driver, origins);
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                for (String origin : origins) {
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("origin", origin);
+                    params.put("storageTypes", CLEARED_STORAGE_TYPES);
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", params);
+                }
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Add the origins in the current tab's navigation history; needs CDP, otherwise adds nothing
+     */
+    private static void collectVisitedOrigins(WebDriver driver, Set<String> origins) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, Object> history = ((HasCdp) driver).executeCdpCommand(
+            "Page.getNavigationHistory", Collections.emptyMap());
+        Object entries = history.get("entries");
+        if (!(entries instanceof List)) {
+            return;
+        }
+        for (Object entry : (List<?>) entries) {
+            if (entry instanceof Map) {
+                String origin = originOf(String.valueOf(((Map<?, ?>) entry).get("url")));
+                if (origin != null) {
+                    origins.add(origin);
+                }
+            }
+        }
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = new URI(url);
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equals(scheme) || "https".equals(scheme))) {
+                return null;
+            }
+            return scheme + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private void quit(PooledSession session) {
+        live.decrementAndGet();
+        FastProfile.untrack(session.driver);
+        try {
+            session.driver.quit();
+        } catch (WebDriverException e) {
+            // Session is already gone
+        }
+    }
+
+    private static final class PooledSession {
+        private static final AtomicInteger IDS = new AtomicInteger();
+
+        private final int id = IDS.incrementAndGet();
+        private final WebDriver driver;
+        private int uses;
+        // Set for background launches until their first lease
+        private long launchNanos;
+        private long readyAt;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.intelli.automation.driver;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fast browser profile following Intelli-Test framework
+ * Runs Chrome headless with an eager page-load strategy and a small fixed viewport,
+ * and fails requests for unused resource types and URL patterns through DevTools
+ * request interception before they reach the network
+ */
+public final class FastProfile {
+
+    private static final Logger LOG = Logger.getLogger(FastProfile.class);
+
+    private static final Event<Map<String, Object>> REQUEST_PAUSED =
+        new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+
+    private static final LongAdder TOTAL_BLOCKED = new LongAdder();
+    // Identity keys: decorated drivers are proxies whose equals/hashCode are remote-call wrappers
+    private static final Map<WebDriver, AtomicLong> BLOCKED = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private FastProfile() {
+    }
+
+    /**
+     * Check if the fast profile is on
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isFastProfileEnabled();
+    }
+
+    /**
+     * Apply headless mode, page-load strategy and viewport to Chrome options
+     * @param options Options to change
+     */
+    static void apply(ChromeOptions options) {
+        if (ConfigReader.isFastProfileHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(ConfigReader.getFastProfilePageLoadStrategy()));
+        options.addArguments("--window-size=" + ConfigReader.getFastProfileWindowSize());
+    }
+
+    /**
+     * Start failing blocked requests on a new Chrome session
+     * @param driver Undecorated driver
+     * @return Counter of requests blocked in this session, or null if the session has no DevTools
+     */
+    static AtomicLong intercept(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String type : ConfigReader.getFastProfileBlockedTypes()) {
+            patterns.add(pattern("*", toResourceType(type)));
+        }
+        for (String url : ConfigReader.getFastProfileBlockedUrls()) {
+            patterns.add(pattern(url, null));
+        }
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        AtomicLong blocked = new AtomicLong();
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            // Only matching requests are paused, so everything else loads without a round trip through here
+            devTools.addListener(REQUEST_PAUSED, paused -> {
+                Map<String, Object> params = new HashMap<>();
+                params.put("requestId", paused.get("requestId"));
+                params.put("errorReason", "BlockedByClient");
+                devTools.send(new Command<Void>("Fetch.failRequest", params));
+                blocked.incrementAndGet();
+                TOTAL_BLOCKED.increment();
+            });
+            Map<String, Object> params = Collections.singletonMap("patterns", patterns);
+            devTools.send(new Command<Void>("Fetch.enable", params));
+        } catch (WebDriverException e) {
+            LOG.warn("⚠️ Fast profile request blocking unavailable: {}", e.getMessage());
+            return null;
+        }
+        return blocked;
+    }
+
+    /**
+     * Attribute a session's blocked-request counter to the driver handed to tests
+     * @param driver Driver as leased to tests, possibly decorated
+     * @param blocked Counter from {@link #intercept(WebDriver)}
+     */
+    static void track(WebDriver driver, AtomicLong blocked) {
+        BLOCKED.put(driver, blocked);
+    }
+
+    /**
+     * Stop tracking a session that has quit
+     * @param driver Driver as leased to tests
+     */
+    static void untrack(WebDriver driver) {
+        BLOCKED.remove(driver);
+    }
+
+    /**
+     * Get number of requests blocked so far in a session
+     * @param driver Driver as leased to tests
+     * @return Blocked requests, 0 if the session does not block anything
+     */
+    public static long getBlockedCount(WebDriver driver) {
+        AtomicLong blocked = BLOCKED.get(driver);
+        return blocked == null ? 0 : blocked.get();
+    }
+
+    /**
+     * Get number of requests blocked across all sessions
+     * @return Blocked requests
+     */
+    public static long getTotalBlockedCount() {
+        return TOTAL_BLOCKED.sum();
+    }
+
+    private static Map<String, Object> pattern(String urlPattern, String resourceType) {
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", urlPattern);
+        pattern.put("requestStage", "Request");
+        if (resourceType != null) {
+            pattern.put("resourceType", resourceType);
+        }
+        return pattern;
+    }
+
+    /**
+     * Map a configured type (image, font, stylesheet, media, script, ...) to its DevTools name
+     */
+    private static String toResourceType(String type) {
+        String lower = type.trim().toLowerCase(Locale.ROOT);
+        switch (lower) {
+            case "css":
+                return "Stylesheet";
+            case "xhr":
+                return "XHR";
+            case "cspviolationreport":
+                return "CSPViolationReport";
+            case "texttrack":
+                return "TextTrack";
+            case "eventsource":
+                return "EventSource";
+            case "websocket":
+                return "WebSocket";
+            case "signedexchange":
+                return "SignedExchange";
+            default:
+                return Character.toUpperCase(lower.charAt(0)) + lower.substring(1);
+        }
+    }
+}
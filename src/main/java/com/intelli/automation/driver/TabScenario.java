@@ -0,0 +1,84 @@
+package com.intelli.automation.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tab scenario following Intelli-Test framework
+ * An independent sequence of page loads and steps that {@link TabScheduler} runs in a tab of its own.
+ * Steps of one scenario run in order; steps of different scenarios interleave,
+ * so each step must finish its work on the page before returning
+ */
+public final class TabScenario {
+
+    private final String name;
+    private final List<Step> steps = new ArrayList<>();
+
+    private TabScenario(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Start a scenario
+     * @param name Name used in logs and failure reports
+     * @return Empty scenario
+     */
+    public static TabScenario named(String name) {
+        return new TabScenario(name);
+    }
+
+    /**
+     * Load a URL without waiting for it; the next step of this scenario waits for the load,
+     * while other tabs run in the meantime
+     * @param url The URL to load
+     * @return This scenario
+     */
+    public TabScenario open(String url) {
+        steps.add(new Step(url, null));
+        return this;
+    }
+
+    /**
+     * Add a step, run with this scenario's tab selected
+     * @param action Step taking the shared driver
+     * @return This scenario
+     */
+    public TabScenario step(Consumer<WebDriver> action) {
+        steps.add(new Step(null, action));
+        return this;
+    }
+
+    /**
+     * Get scenario name
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A page load or an action
+     */
+    static final class Step {
+        final String url;
+        final Consumer<WebDriver> action;
+
+        Step(String url, Consumer<WebDriver> action) {
+            this.url = url;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.intelli.automation.driver;
+
+import com.intelli.automation.base.ElementCache;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tab scheduler following Intelli-Test framework
+ * Runs independent scenarios in separate tabs of one browser session. Steps are
+ * interleaved round robin: a page load is started without waiting, and while it
+ * renders the other tabs run their steps, so browser work overlaps driver round trips.
+ * A driver session is single-threaded, so all of this runs on the calling thread
+ */
+public final class TabScheduler {
+
+    private static final Logger LOG = Logger.getLogger(TabScheduler.class);
+
+    /**
+     * Marks the current document so its replacement can be told apart from it
+     */
+    private static final String NAVIGATE_SCRIPT =
+        "document.tabSchedulerPending = true; window.location.assign(arguments[0]);";
+
+    private static final String LOADED_SCRIPT =
+        "return !document.tabSchedulerPending && document.readyState === 'complete';";
+
+    private static final long POLL_MILLIS = 20;
+
+    private final WebDriver driver;
+    private final int maxTabs;
+    private String selected;
+
+    /**
+     * Create a scheduler using up to tabs.max tabs
+     * @param driver Session to open the tabs in
+     */
+    public TabScheduler(WebDriver driver) {
+        this(driver, ConfigReader.getTabLimit());
+    }
+
+    /**
+     * Create a scheduler
+     * @param driver Session to open the tabs in
+     * @param maxTabs Tabs open at once, including the current one
+     */
+    public TabScheduler(WebDriver driver, int maxTabs) {
+        this.driver = driver;
+        this.maxTabs = Math.max(1, maxTabs);
+    }
+
+    /**
+     * Run scenarios to completion
+     * @param scenarios Independent scenarios
+     * @throws AssertionError If any scenario failed; the others still run to the end
+     */
+    public void run(TabScenario... scenarios) {
+        run(Arrays.asList(scenarios));
+    }
+
+    /**
+     * Run scenarios to completion
+     * The first scenario reuses the current tab; tabs opened for the others are closed
+     * and the current tab is selected again afterwards
+     * @param scenarios Independent scenarios
+     * @throws AssertionError If any scenario failed; the others still run to the end
+     */
+    public void run(List<TabScenario> scenarios) {
+        String home = driver.getWindowHandle();
+        selected = home;
+        Deque<TabScenario> queued = new ArrayDeque<>(scenarios);
+        List<Tab> tabs = new ArrayList<>();
+        Map<TabScenario, Throwable> failures = new LinkedHashMap<>();
+        boolean homeInUse = false;
+        int steps = 0;
+        int opened = 0;
+        long start = System.nanoTime();
+        try {
+            while (!queued.isEmpty() || !tabs.isEmpty()) {
+                while (tabs.size() < maxTabs && !queued.isEmpty()) {
+                    if (homeInUse) {
+                        driver.switchTo().newWindow(WindowType.TAB);
+                        selected = driver.getWindowHandle();
+                        opened++;
+                    } else {
+                        select(home);
+                        homeInUse = true;
+                    }
+                    tabs.add(new Tab(queued.poll(), selected));
+                }
+
+                boolean progressed = false;
+                for (Iterator<Tab> it = tabs.iterator(); it.hasNext();) {
+                    Tab tab = it.next();
+                    select(tab.handle);
+                    try {
+                        if (tab.loadStarted != 0 && !isLoaded(tab)) {
+                            // Still rendering; serve the other tabs first
+                            continue;
+                        }
+                        tab.loadStarted = 0;
+                        if (tab.next < tab.scenario.getSteps().size()) {
+                            runStep(tab);
+                            steps++;
+                        }
+                        progressed = true;
+                    } catch (RuntimeException | AssertionError e) {
+                        failures.put(tab.scenario, e);
+                        tab.next = tab.scenario.getSteps().size();
+                        tab.loadStarted = 0;
+                        LOG.warn("❌ Tab scenario {} failed: {}", tab.scenario, e.toString());
+                    }
+                    if (tab.next == tab.scenario.getSteps().size() && tab.loadStarted == 0) {
+                        if (tab.handle.equals(home)) {
+                            homeInUse = false;
+                        } else {
+                            driver.close();
+                            selected = null;
+                        }
+                        it.remove();
+                        progressed = true;
+                    }
+                }
+                if (!progressed) {
+                    // Every tab is waiting for a page load
+                    TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running tab scenarios", e);
+        } finally {
+            if (!home.equals(selected)) {
+                driver.switchTo().window(home);
+            }
+            ElementCache.documentChanged(driver);
+        }
+        LOG.info("🗂️ Ran {} tab scenarios ({} extra tabs, {} steps) in {} ms",
+            scenarios.size(), opened, steps, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " of " + scenarios.size()
+                + " tab scenarios failed: " + failures.keySet());
+            failures.values().forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+
+    private void select(String handle) {
+        // Switching is a round trip of its own; skip it when the tab is already selected
+        if (!handle.equals(selected)) {
+            driver.switchTo().window(handle);
+            selected = handle;
+            // Cached elements belong to the previous tab's document
+            ElementCache.documentChanged(driver);
+        }
+    }
+
+    private void runStep(Tab tab) {
+        TabScenario.Step step = tab.scenario.getSteps().get(tab.next++);
+        if (step.url == null) {
+            step.action.accept(driver);
+            return;
+        }
+        if (driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeScript(NAVIGATE_SCRIPT, step.url);
+            tab.loadStarted = System.nanoTime();
+        } else {
+            driver.get(step.url);
+        }
+        ElementCache.documentChanged(driver);
+    }
+
+    private boolean isLoaded(Tab tab) {
+        if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(LOADED_SCRIPT))) {
+            return true;
+        }
+        if (System.nanoTime() - tab.loadStarted > TimeUnit.SECONDS.toNanos(ConfigReader.getTimeout())) {
+            throw new TimeoutException("Page did not load within " + ConfigReader.getTimeout() + " s");
+        }
+        return false;
+    }
+
+    /**
+     * A scenario and the tab it runs in
+     */
+    private static final class Tab {
+        final TabScenario scenario;
+        final String handle;
+        int next;
+        long loadStarted;
+
+        Tab(TabScenario scenario, String handle) {
+            this.scenario = scenario;
+            this.handle = handle;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.intelli.automation.driver.fake;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * In-memory DOM node following Intelli-Test framework
+ * Either an element (tag plus attributes and children) or a text node
+ */
+final class DomNode {
+
+    private final String tag;
+    private final String text;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<DomNode> children = new ArrayList<>();
+    private DomNode parent;
+
+    // Form control state, separate from the value/checked attributes as in a browser
+    private String value;
+    private Boolean checked;
+
+    private DomNode(String tag, String text) {
+        this.tag = tag;
+        this.text = text;
+    }
+
+    static DomNode element(String tag) {
+        return new DomNode(tag.toLowerCase(Locale.ROOT), null);
+    }
+
+    static DomNode text(String text) {
+        return new DomNode(null, text);
+    }
+
+    boolean isElement() {
+        return tag != null;
+    }
+
+    String getTag() {
+        return tag;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    DomNode getParent() {
+        return parent;
+    }
+
+    List<DomNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    void appendChild(DomNode child) {
+        child.parent = this;
+        children.add(child);
+    }
+
+    String getAttribute(String name) {
+        return attributes.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    boolean hasAttribute(String name) {
+        return attributes.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    void setAttribute(String name, String attributeValue) {
+        attributes.put(name.toLowerCase(Locale.ROOT), attributeValue);
+    }
+
+    Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Get the raw value a user has entered, or the value attribute if untouched
+     * @return Raw control value
+     */
+    String getRawValue() {
+        if (value != null) {
+            return value;
+        }
+        if ("textarea".equals(tag)) {
+            return getTextContent();
+        }
+        String attribute = getAttribute("value");
+        return attribute == null ? "" : attribute;
+    }
+
+    void setRawValue(String rawValue) {
+        this.value = rawValue;
+    }
+
+    boolean isChecked() {
+        return checked != null ? checked : hasAttribute("checked") || hasAttribute("selected");
+    }
+
+    void setChecked(boolean checked) {
+        this.checked = checked;
+    }
+
+    /**
+     * Get the input type, defaulting to text
+     * @return Lower-case type
+     */
+    String getInputType() {
+        String type = getAttribute("type");
+        return type == null ? "text" : type.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Get concatenated text of all descendant text nodes
+     * @return Raw text content
+     */
+    String getTextContent() {
+        if (!isElement()) {
+            return text;
+        }
+        StringBuilder content = new StringBuilder();
+        for (DomNode child : children) {
+            content.append(child.getTextContent());
+        }
+        return content.toString();
+    }
+
+    /**
+     * Visit this node's element descendants in document order
+     * @param visitor Callback for each element
+     */
+    void forEachDescendant(Consumer<DomNode> visitor) {
+        for (DomNode child : children) {
+            if (child.isElement()) {
+                visitor.accept(child);
+                child.forEachDescendant(visitor);
+            }
+        }
+    }
+
+    /**
+     * Find the first descendant element with a tag
+     * @param tagName Tag to look for
+     * @return Element, or null if absent
+     */
+    DomNode findFirst(String tagName) {
+        for (DomNode child : children) {
+            if (child.isElement()) {
+                if (child.tag.equals(tagName)) {
+                    return child;
+                }
+                DomNode found = child.findFirst(tagName);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,445 @@
+package com.intelli.automation.driver.fake;
+
+import com.intelli.automation.server.FixtureServer;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.logging.Logs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake WebDriver following Intelli-Test framework
+ * Pure-Java, in-memory browser for page-object checks without a real Chrome.
+ * Pages are loaded from the classpath fixtures (or plain HTTP as a fallback),
+ * parsed into a DOM model, and form controls follow browser value semantics.
+ * There is no script engine, layout or CSS cascade
+ */
+public class FakeWebDriver implements WebDriver {
+
+    private static final String BLANK = "about:blank";
+    private static final AtomicInteger HANDLES = new AtomicInteger();
+
+    private final Map<String, FakeWindow> windows = new LinkedHashMap<>();
+    private final Set<Cookie> cookies = new LinkedHashSet<>();
+    private final Dimension windowSize = new Dimension(1280, 800);
+    private FakeWindow current;
+    private HttpClient httpClient;
+    private boolean quit;
+
+    public FakeWebDriver() {
+        current = openWindow();
+    }
+
+    /**
+     * Check if a driver, possibly decorated, is the fake browser
+     * @param driver Driver to check
+     * @return true for a FakeWebDriver, false for a real browser
+     */
+    public static boolean isFake(WebDriver driver) {
+        while (driver instanceof WrapsDriver && !(driver instanceof FakeWebDriver)) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver instanceof FakeWebDriver;
+    }
+
+    @Override
+    public void get(String url) {
+        window().navigate(url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return window().url;
+    }
+
+    @Override
+    public String getTitle() {
+        DomNode title = window().document.findFirst("title");
+        return title == null ? "" : title.getTextContent().replaceAll("\\s+", " ").trim();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return FakeWebElement.findAll(this, window().document, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> elements = findElements(by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        return window().source;
+    }
+
+    @Override
+    public void close() {
+        String handle = window().handle;
+        windows.remove(handle);
+        current = null;
+        if (windows.isEmpty()) {
+            quit = true;
+        }
+    }
+
+    @Override
+    public void quit() {
+        windows.clear();
+        current = null;
+        quit = true;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        checkSession();
+        return new LinkedHashSet<>(windows.keySet());
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return window().handle;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        checkSession();
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        checkSession();
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        checkSession();
+        return new FakeOptions();
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebDriver";
+    }
+
+    /**
+     * Check if an element's document is still the one loaded in its window
+     */
+    boolean isCurrentDocument(DomNode document) {
+        for (FakeWindow candidate : windows.values()) {
+            if (candidate.document == document) {
+                return candidate == current;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follow a link relative to the current page
+     */
+    void followLink(String href) {
+        window().navigate(URI.create(window().url).resolve(href.trim()).toString());
+    }
+
+    private FakeWindow window() {
+        checkSession();
+        if (current == null) {
+            throw new NoSuchWindowException("Current window was closed");
+        }
+        return current;
+    }
+
+    private void checkSession() {
+        if (quit) {
+            throw new NoSuchSessionException("Fake browser session has been quit");
+        }
+    }
+
+    private FakeWindow openWindow() {
+        FakeWindow window = new FakeWindow("fake-window-" + HANDLES.incrementAndGet());
+        windows.put(window.handle, window);
+        return window;
+    }
+
+    private String fetch(String url) {
+        if (BLANK.equals(url)) {
+            return "<html><head></head><body></body></html>";
+        }
+        URI uri = URI.create(url);
+        byte[] fixture = FixtureServer.getFixture(uri.getPath() == null ? "/" : uri.getPath());
+        if (fixture != null) {
+            return new String(fixture, StandardCharsets.UTF_8);
+        }
+        if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+            throw new WebDriverException("Fake browser cannot load " + url);
+        }
+        try {
+            if (httpClient == null) {
+                httpClient = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build();
+            }
+            return httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new WebDriverException("Fake browser failed to load " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while loading " + url, e);
+        }
+    }
+
+    /**
+     * One tab or window: its page and session history
+     */
+    private final class FakeWindow {
+        private final String handle;
+        private final List<String> history = new ArrayList<>();
+        private int historyIndex = -1;
+        private String url = BLANK;
+        private String source;
+        private DomNode document;
+
+        private FakeWindow(String handle) {
+            this.handle = handle;
+            load(BLANK);
+        }
+
+        private void navigate(String target) {
+            load(target);
+            while (history.size() > historyIndex + 1) {
+                history.remove(history.size() - 1);
+            }
+            history.add(target);
+            historyIndex = history.size() - 1;
+        }
+
+        private void load(String target) {
+            source = fetch(target);
+            document = HtmlParser.parse(source);
+            url = target;
+        }
+
+        private void go(int delta) {
+            int index = historyIndex + delta;
+            if (index >= 0 && index < history.size()) {
+                historyIndex = index;
+                load(history.get(index));
+            }
+        }
+    }
+
+    private final class FakeNavigation implements Navigation {
+        @Override
+        public void back() {
+            window().go(-1);
+        }
+
+        @Override
+        public void forward() {
+            window().go(1);
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            window().load(window().url);
+        }
+    }
+
+    private final class FakeTargetLocator implements TargetLocator {
+        @Override
+        public WebDriver frame(int index) {
+            throw new UnsupportedCommandException("Frames are not supported by the fake browser");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            throw new UnsupportedCommandException("Frames are not supported by the fake browser");
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            throw new UnsupportedCommandException("Frames are not supported by the fake browser");
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            FakeWindow target = windows.get(nameOrHandle);
+            if (target == null) {
+                throw new NoSuchWindowException("No window with handle " + nameOrHandle);
+            }
+            current = target;
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            current = openWindow();
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return findElement(By.tagName("body"));
+        }
+
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException("The fake browser never shows alerts");
+        }
+    }
+
+    private final class FakeOptions implements Options {
+        @Override
+        public void addCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+            cookies.add(cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            cookies.removeIf(cookie -> cookie.getName().equals(name));
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return new LinkedHashSet<>(cookies);
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return cookies.stream().filter(cookie -> cookie.getName().equals(name)).findFirst().orElse(null);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new FakeTimeouts();
+        }
+
+        @Override
+        public Window window() {
+            return new FakeWindowControl();
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("Logs are not supported by the fake browser");
+        }
+    }
+
+    /**
+     * Timeouts are accepted and ignored: every fake command completes immediately
+     */
+    private final class FakeTimeouts implements Timeouts {
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+    }
+
+    private final class FakeWindowControl implements Window {
+        @Override
+        public Dimension getSize() {
+            return windowSize;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+        }
+
+        @Override
+        public Point getPosition() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+        }
+
+        @Override
+        public void maximize() {
+        }
+
+        @Override
+        public void minimize() {
+        }
+
+        @Override
+        public void fullscreen() {
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.intelli.automation.driver.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Fake WebElement following Intelli-Test framework
+ * Element handle into a {@link FakeWebDriver} document; becomes stale when the window navigates
+ */
+public class FakeWebElement implements WebElement {
+
+    private static final Pattern VALID_FLOATING_POINT =
+        Pattern.compile("-?(?:\\d+(?:\\.\\d+)?|\\.\\d+)(?:[eE][+-]?\\d+)?");
+    private static final String NUMBER_KEYS = "0123456789+-.eE";
+    private static final Dimension DISPLAYED_SIZE = new Dimension(150, 20);
+
+    private final FakeWebDriver driver;
+    private final DomNode document;
+    private final DomNode node;
+
+    private FakeWebElement(FakeWebDriver driver, DomNode document, DomNode node) {
+        this.driver = driver;
+        this.document = document;
+        this.node = node;
+    }
+
+    /**
+     * Find elements under a node
+     */
+    static List<WebElement> findAll(FakeWebDriver driver, DomNode document, DomNode root, By by,
+            SearchContext context) {
+        if (!(by instanceof By.Remotable)) {
+            // Composite locators (ByChained, ByIdOrName, ByAll) delegate back to simple ones
+            return by.findElements(context);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        List<WebElement> elements = new ArrayList<>();
+        for (DomNode match : Locators.find(root, parameters.using(), String.valueOf(parameters.value()))) {
+            elements.add(new FakeWebElement(driver, document, match));
+        }
+        return elements;
+    }
+
+    static List<WebElement> findAll(FakeWebDriver driver, DomNode document, By by) {
+        return findAll(driver, document, document, by, driver);
+    }
+
+    @Override
+    public void click() {
+        checkInteractable();
+        String tag = node.getTag();
+        if ("a".equals(tag) && node.getAttribute("href") != null && !"_blank".equals(node.getAttribute("target"))) {
+            driver.followLink(node.getAttribute("href"));
+        } else if ("input".equals(tag) && isEnabled()) {
+            String type = node.getInputType();
+            if ("checkbox".equals(type)) {
+                node.setChecked(!node.isChecked());
+            } else if ("radio".equals(type)) {
+                node.setChecked(true);
+            }
+        }
+    }
+
+    @Override
+    public void submit() {
+        checkFresh();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        checkInteractable();
+        checkEditable();
+        StringBuilder value = new StringBuilder(node.getRawValue());
+        boolean numeric = isNumberInput();
+        int maxLength = maxLength();
+        for (CharSequence keys : keysToSend) {
+            for (int i = 0; i < keys.length(); i++) {
+                char key = keys.charAt(i);
+                if (key == Keys.BACK_SPACE.charAt(0)) {
+                    if (value.length() > 0) {
+                        value.setLength(value.length() - 1);
+                    }
+                } else if (Keys.getKeyFromUnicode(key) != null) {
+                    // Other special keys do not change the value
+                    continue;
+                } else if (numeric && NUMBER_KEYS.indexOf(key) < 0) {
+                    // Number inputs drop characters that cannot be part of a number
+                    continue;
+                } else if (maxLength < 0 || value.length() < maxLength) {
+                    value.append(key);
+                }
+            }
+        }
+        node.setRawValue(value.toString());
+    }
+
+    @Override
+    public void clear() {
+        checkFresh();
+        checkEditable();
+        node.setRawValue("");
+    }
+
+    @Override
+    public String getTagName() {
+        checkFresh();
+        return node.getTag();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        checkFresh();
+        if ("value".equalsIgnoreCase(name) && isFormControl()) {
+            return getValue();
+        }
+        if ("checked".equalsIgnoreCase(name) || "selected".equalsIgnoreCase(name)) {
+            return node.isChecked() ? "true" : null;
+        }
+        return node.getAttribute(name);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return getAttribute(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        checkFresh();
+        return node.getAttribute(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        checkFresh();
+        return node.isChecked();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        checkFresh();
+        return !node.hasAttribute("disabled");
+    }
+
+    @Override
+    public String getText() {
+        checkFresh();
+        return Locators.isDisplayed(node) ? Locators.visibleText(node) : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        checkFresh();
+        return findAll(driver, document, node, by, this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> elements = findElements(by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        checkFresh();
+        return Locators.isDisplayed(node);
+    }
+
+    @Override
+    public Point getLocation() {
+        checkFresh();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        checkFresh();
+        return Locators.isDisplayed(node) ? DISPLAYED_SIZE : new Dimension(0, 0);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        checkFresh();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedCommandException("Screenshots are not supported by the fake browser");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FakeWebElement && ((FakeWebElement) other).node == node;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(node);
+    }
+
+    @Override
+    public String toString() {
+        return "[FakeWebElement -> " + node.getTag() + node.getAttributes() + "]";
+    }
+
+    /**
+     * Get the value the browser would report: number inputs sanitise invalid input to empty
+     */
+    private String getValue() {
+        String raw = node.getRawValue();
+        if (isNumberInput() && !raw.isEmpty() && !VALID_FLOATING_POINT.matcher(raw).matches()) {
+            return "";
+        }
+        return raw;
+    }
+
+    private boolean isFormControl() {
+        String tag = node.getTag();
+        return "input".equals(tag) || "textarea".equals(tag) || "select".equals(tag) || "option".equals(tag)
+            || "button".equals(tag);
+    }
+
+    private boolean isNumberInput() {
+        return "input".equals(node.getTag()) && "number".equals(node.getInputType());
+    }
+
+    private int maxLength() {
+        String maxLength = node.getAttribute("maxlength");
+        if (maxLength == null || isNumberInput()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(maxLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void checkFresh() {
+        if (!driver.isCurrentDocument(document)) {
+            throw new StaleElementReferenceException("Element is no longer attached to the current document: "
+                + this);
+        }
+    }
+
+    private void checkInteractable() {
+        checkFresh();
+        if (!Locators.isDisplayed(node)) {
+            throw new ElementNotInteractableException("Element is not displayed: " + this);
+        }
+    }
+
+    private void checkEditable() {
+        String tag = node.getTag();
+        boolean textControl = "textarea".equals(tag) || ("input".equals(tag) && !isNonTextInput());
+        if (!textControl) {
+            throw new ElementNotInteractableException("Element does not accept text: " + this);
+        }
+        if (node.hasAttribute("disabled") || node.hasAttribute("readonly")) {
+            throw new InvalidElementStateException("Element is not editable: " + this);
+        }
+    }
+
+    private boolean isNonTextInput() {
+        switch (node.getInputType()) {
+            case "checkbox":
+            case "radio":
+            case "submit":
+            case "button":
+            case "reset":
+            case "image":
+            case "hidden":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.intelli.automation.driver.fake;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lenient HTML parser following Intelli-Test framework
+ * Builds a {@link DomNode} tree from the small, well-formed fixture pages;
+ * it is not a general-purpose HTML5 parser
+ */
+final class HtmlParser {
+
+    private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList(
+        "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "source", "track", "wbr"));
+    private static final Set<String> RAW_TEXT_ELEMENTS = new HashSet<>(Arrays.asList("script", "style"));
+
+    private final String html;
+    private int pos;
+
+    private HtmlParser(String html) {
+        this.html = html;
+    }
+
+    /**
+     * Parse a page into a document node
+     * @param html Page source
+     * @return Document node whose children are the top-level elements
+     */
+    static DomNode parse(String html) {
+        return new HtmlParser(html).parseDocument();
+    }
+
+    private DomNode parseDocument() {
+        DomNode document = DomNode.element("#document");
+        Deque<DomNode> open = new ArrayDeque<>();
+        open.push(document);
+        while (pos < html.length()) {
+            if (html.startsWith("<!--", pos)) {
+                pos = skipPast("-->");
+            } else if (html.startsWith("<!", pos) || html.startsWith("<?", pos)) {
+                pos = skipPast(">");
+            } else if (html.startsWith("</", pos)) {
+                int end = html.indexOf('>', pos);
+                end = end < 0 ? html.length() : end;
+                String name = html.substring(pos + 2, end).trim().toLowerCase(Locale.ROOT);
+                pos = Math.min(end + 1, html.length());
+                closeElement(open, name);
+            } else if (html.charAt(pos) == '<' && pos + 1 < html.length()
+                    && Character.isLetter(html.charAt(pos + 1))) {
+                parseStartTag(open);
+            } else {
+                int next = html.indexOf('<', pos + 1);
+                next = next < 0 ? html.length() : next;
+                open.peek().appendChild(DomNode.text(decodeEntities(html.substring(pos, next))));
+                pos = next;
+            }
+        }
+        return document;
+    }
+
+    private void parseStartTag(Deque<DomNode> open) {
+        pos++;
+        int nameStart = pos;
+        while (pos < html.length() && !Character.isWhitespace(html.charAt(pos))
+                && html.charAt(pos) != '>' && html.charAt(pos) != '/') {
+            pos++;
+        }
+        DomNode element = DomNode.element(html.substring(nameStart, pos));
+        boolean selfClosing = false;
+        while (pos < html.length()) {
+            char c = html.charAt(pos);
+            if (c == '>') {
+                pos++;
+                break;
+            } else if (c == '/') {
+                selfClosing = true;
+                pos++;
+            } else if (Character.isWhitespace(c)) {
+                pos++;
+            } else {
+                parseAttribute(element);
+            }
+        }
+        open.peek().appendChild(element);
+        String tag = element.getTag();
+        if (RAW_TEXT_ELEMENTS.contains(tag)) {
+            String closing = "</" + tag;
+            int end = html.toLowerCase(Locale.ROOT).indexOf(closing, pos);
+            end = end < 0 ? html.length() : end;
+            element.appendChild(DomNode.text(html.substring(pos, end)));
+            pos = end < html.length() ? skipPast(">", end) : end;
+        } else if (!selfClosing && !VOID_ELEMENTS.contains(tag)) {
+            open.push(element);
+        }
+    }
+
+    private void parseAttribute(DomNode element) {
+        int nameStart = pos;
+        while (pos < html.length() && !Character.isWhitespace(html.charAt(pos))
+                && "=>/".indexOf(html.charAt(pos)) < 0) {
+            pos++;
+        }
+        String name = html.substring(nameStart, pos);
+        skipWhitespace();
+        String value = "";
+        if (pos < html.length() && html.charAt(pos) == '=') {
+            pos++;
+            skipWhitespace();
+            char quote = pos < html.length() ? html.charAt(pos) : ' ';
+            if (quote == '"' || quote == '\'') {
+                int end = html.indexOf(quote, pos + 1);
+                end = end < 0 ? html.length() : end;
+                value = html.substring(pos + 1, end);
+                pos = Math.min(end + 1, html.length());
+            } else {
+                int valueStart = pos;
+                while (pos < html.length() && !Character.isWhitespace(html.charAt(pos))
+                        && html.charAt(pos) != '>') {
+                    pos++;
+                }
+                value = html.substring(valueStart, pos);
+            }
+        }
+        if (!name.isEmpty()) {
+            element.setAttribute(name, decodeEntities(value));
+        }
+    }
+
+    private static void closeElement(Deque<DomNode> open, String name) {
+        boolean isOpen = false;
+        for (Iterator<DomNode> it = open.iterator(); it.hasNext();) {
+            if (name.equals(it.next().getTag())) {
+                isOpen = true;
+                break;
+            }
+        }
+        if (!isOpen) {
+            return;
+        }
+        while (open.size() > 1) {
+            if (name.equals(open.pop().getTag())) {
+                return;
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < html.length() && Character.isWhitespace(html.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private int skipPast(String marker) {
+        return skipPast(marker, pos);
+    }
+
+    private int skipPast(String marker, int from) {
+        int end = html.indexOf(marker, from);
+        return end < 0 ? html.length() : end + marker.length();
+    }
+
+    private static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return text.replace("&nbsp;", " ")
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&#39;", "'")
+            .replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,267 @@
+package com.intelli.automation.driver.fake;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Locator engine following Intelli-Test framework
+ * Resolves WebDriver locator strategies against a {@link DomNode} tree.
+ * CSS supports type, id, class and attribute selectors with descendant and child
+ * combinators; XPath supports the {@code //tag[@attr='value']} subset
+ */
+final class Locators {
+
+    private static final Pattern SIMPLE_XPATH =
+        Pattern.compile("//([\\w*-]+)((?:\\[@[\\w-]+\\s*=\\s*(?:'[^']*'|\"[^\"]*\")\\])*)");
+    private static final Pattern XPATH_PREDICATE =
+        Pattern.compile("\\[@([\\w-]+)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")\\]");
+    private static final Pattern CSS_ATTRIBUTE =
+        Pattern.compile("\\[\\s*([\\w-]+)\\s*(?:=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\]\\s]+)))?\\s*\\]");
+
+    private Locators() {
+    }
+
+    /**
+     * Find elements under a root in document order
+     * @param root Node to search under (exclusive)
+     * @param using W3C locator strategy
+     * @param value Locator value
+     * @return Matching elements
+     */
+    static List<DomNode> find(DomNode root, String using, String value) {
+        switch (using) {
+            case "id":
+                return collect(root, node -> value.equals(node.getAttribute("id")));
+            case "name":
+                return collect(root, node -> value.equals(node.getAttribute("name")));
+            case "class name":
+                return collect(root, node -> hasClass(node, value));
+            case "tag name":
+                return collect(root, node -> node.getTag().equals(value.toLowerCase(Locale.ROOT)));
+            case "link text":
+                return collect(root, node -> "a".equals(node.getTag()) && visibleText(node).equals(value.trim()));
+            case "partial link text":
+                return collect(root, node -> "a".equals(node.getTag()) && visibleText(node).contains(value));
+            case "css selector":
+                return findByCss(root, value);
+            case "xpath":
+                return findByXpath(root, value);
+            default:
+                throw new InvalidSelectorException("Unsupported locator strategy: " + using);
+        }
+    }
+
+    /**
+     * Get rendered-like text: whitespace collapsed, script/style and hidden content skipped
+     * @param node Element
+     * @return Visible text
+     */
+    static String visibleText(DomNode node) {
+        StringBuilder text = new StringBuilder();
+        appendVisibleText(node, text);
+        return text.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Check if an element would be rendered
+     * @param node Element
+     * @return true unless it or an ancestor is hidden
+     */
+    static boolean isDisplayed(DomNode node) {
+        if ("input".equals(node.getTag()) && "hidden".equals(node.getInputType())) {
+            return false;
+        }
+        for (DomNode current = node; current != null && current.isElement(); current = current.getParent()) {
+            if (isHidden(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHidden(DomNode node) {
+        if (node.hasAttribute("hidden")) {
+            return true;
+        }
+        String tag = node.getTag();
+        if ("head".equals(tag) || "script".equals(tag) || "style".equals(tag) || "title".equals(tag)
+                || "meta".equals(tag) || "link".equals(tag)) {
+            return true;
+        }
+        String style = node.getAttribute("style");
+        if (style == null) {
+            return false;
+        }
+        String normalized = style.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return normalized.contains("display:none") || normalized.contains("visibility:hidden");
+    }
+
+    private static void appendVisibleText(DomNode node, StringBuilder text) {
+        for (DomNode child : node.getChildren()) {
+            if (!child.isElement()) {
+                text.append(child.getText());
+            } else if (!isHidden(child)) {
+                if ("br".equals(child.getTag())) {
+                    text.append('\n');
+                }
+                appendVisibleText(child, text);
+            }
+        }
+    }
+
+    private static List<DomNode> collect(DomNode root, Predicate<DomNode> predicate) {
+        List<DomNode> matches = new ArrayList<>();
+        root.forEachDescendant(node -> {
+            if (predicate.test(node)) {
+                matches.add(node);
+            }
+        });
+        return matches;
+    }
+
+    private static boolean hasClass(DomNode node, String className) {
+        String classes = node.getAttribute("class");
+        return classes != null && Arrays.asList(classes.trim().split("\\s+")).contains(className);
+    }
+
+    private static List<DomNode> findByXpath(DomNode root, String xpath) {
+        Matcher matcher = SIMPLE_XPATH.matcher(xpath.trim());
+        if (!matcher.matches()) {
+            throw new InvalidSelectorException("Unsupported XPath for fake browser: " + xpath);
+        }
+        String tag = matcher.group(1).toLowerCase(Locale.ROOT);
+        List<String[]> predicates = new ArrayList<>();
+        Matcher predicate = XPATH_PREDICATE.matcher(matcher.group(2));
+        while (predicate.find()) {
+            predicates.add(new String[] {predicate.group(1),
+                predicate.group(2) != null ? predicate.group(2) : predicate.group(3)});
+        }
+        return collect(root, node -> {
+            if (!"*".equals(tag) && !tag.equals(node.getTag())) {
+                return false;
+            }
+            for (String[] attribute : predicates) {
+                if (!attribute[1].equals(node.getAttribute(attribute[0]))) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static List<DomNode> findByCss(DomNode root, String selector) {
+        Set<DomNode> matches = new LinkedHashSet<>();
+        List<List<String>> groups = new ArrayList<>();
+        for (String group : selector.split(",")) {
+            groups.add(tokenize(group.trim()));
+        }
+        root.forEachDescendant(node -> {
+            for (List<String> tokens : groups) {
+                if (matchesFromRight(node, tokens, tokens.size() - 1, root)) {
+                    matches.add(node);
+                    return;
+                }
+            }
+        });
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Split a selector into compound selectors and combinators ("&gt;" or " ")
+     */
+    private static List<String> tokenize(String selector) {
+        if (selector.isEmpty()) {
+            throw new InvalidSelectorException("Empty CSS selector");
+        }
+        List<String> tokens = new ArrayList<>();
+        String spaced = selector.replaceAll("\\s*>\\s*", " > ").trim();
+        for (String part : spaced.split("\\s+")) {
+            if (">".equals(part)) {
+                tokens.add(">");
+            } else {
+                if (!tokens.isEmpty() && !">".equals(tokens.get(tokens.size() - 1))) {
+                    tokens.add(" ");
+                }
+                tokens.add(part);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean matchesFromRight(DomNode node, List<String> tokens, int index, DomNode root) {
+        if (!matchesCompound(node, tokens.get(index))) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        String combinator = tokens.get(index - 1);
+        DomNode ancestor = node.getParent();
+        if (">".equals(combinator)) {
+            return ancestor != null && ancestor != root && ancestor.isElement()
+                && matchesFromRight(ancestor, tokens, index - 2, root);
+        }
+        for (; ancestor != null && ancestor != root; ancestor = ancestor.getParent()) {
+            if (matchesFromRight(ancestor, tokens, index - 2, root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesCompound(DomNode node, String compound) {
+        int pos = 0;
+        int length = compound.length();
+        int tagEnd = pos;
+        while (tagEnd < length && "#.[".indexOf(compound.charAt(tagEnd)) < 0) {
+            tagEnd++;
+        }
+        String tag = compound.substring(0, tagEnd).toLowerCase(Locale.ROOT);
+        if (!tag.isEmpty() && !"*".equals(tag) && !tag.equals(node.getTag())) {
+            return false;
+        }
+        pos = tagEnd;
+        while (pos < length) {
+            char c = compound.charAt(pos);
+            if (c == '[') {
+                Matcher attribute = CSS_ATTRIBUTE.matcher(compound);
+                if (!attribute.find(pos) || attribute.start() != pos) {
+                    throw new InvalidSelectorException("Malformed attribute selector: " + compound);
+                }
+                String expected = attribute.group(2) != null ? attribute.group(2)
+                    : attribute.group(3) != null ? attribute.group(3) : attribute.group(4);
+                String actual = node.getAttribute(attribute.group(1));
+                if (actual == null || (expected != null && !expected.equals(actual))) {
+                    return false;
+                }
+                pos = attribute.end();
+            } else if (c == '#' || c == '.') {
+                int end = pos + 1;
+                while (end < length && "#.[".indexOf(compound.charAt(end)) < 0) {
+                    end++;
+                }
+                String name = compound.substring(pos + 1, end);
+                if (name.isEmpty()) {
+                    throw new InvalidSelectorException("Malformed CSS selector: " + compound);
+                }
+                boolean matches = c == '#' ? name.equals(node.getAttribute("id")) : hasClass(node, name);
+                if (!matches) {
+                    return false;
+                }
+                pos = end;
+            } else {
+                throw new InvalidSelectorException("Unsupported CSS selector for fake browser: " + compound);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.intelli.automation.listeners;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.CommandMetrics;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command metrics listener following Intelli-Test framework
+ * Attributes WebDriver commands to test methods and writes the latency report at suite end
+ */
+public class CommandMetricsListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = Logger.getLogger(CommandMetricsListener.class);
+
+    private static final String REPORT_FILE = "command-metrics.json";
+
+    @Override
+    public void onStart(ISuite suite) {
+        CommandMetrics.reset();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            CommandMetrics.startTest(qualifiedName(method.getTestMethod()));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            CommandMetrics.endTest();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path report = Paths.get(ConfigReader.getMetricsOutputDir(), REPORT_FILE);
+        try {
+            Files.createDirectories(report.getParent());
+            Files.write(report, new Json().toJson(CommandMetrics.toReport()).getBytes(StandardCharsets.UTF_8));
+            LOG.info("📈 Command metrics written to {}", report.toAbsolutePath());
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not write command metrics: {}", e.getMessage());
+        }
+        int topN = ConfigReader.getMetricsTopN();
+        LOG.info("🐢 Top {} slowest WebDriver commands (by p95):", topN);
+        for (String line : CommandMetrics.getSlowestCommands(topN)) {
+            LOG.info("   {}", line);
+        }
+    }
+
+    static String qualifiedName(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,157 @@
+package com.intelli.automation.listeners;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.scheduling.DurationHistory;
+import com.intelli.automation.scheduling.LptSchedule;
+import com.intelli.automation.utils.ConfigReader;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Duration scheduling listener following Intelli-Test framework
+ * Records each test method's wall time, setUp and tearDown included, and on the
+ * next run dispatches methods longest-first so parallel workers finish together.
+ * With shard.count above 1 it keeps only this JVM's duration-balanced share of
+ * each TestNG test. Reports predicted versus actual makespan per TestNG test at suite end
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = Logger.getLogger(DurationSchedulingListener.class);
+
+    private static final ThreadLocal<Measurement> MEASUREMENT = ThreadLocal.withInitial(Measurement::new);
+
+    private final Map<String, Long> predictedMakespans = new ConcurrentHashMap<>();
+    private volatile DurationHistory history;
+
+    @Override
+    public void onStart(ISuite suite) {
+        history = DurationHistory.load(Paths.get(ConfigReader.getShardHistoryFile()));
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        long defaultEstimate = ConfigReader.getDefaultTestEstimateMillis();
+        ToLongFunction<IMethodInstance> estimate =
+            instance -> history().estimate(qualifiedName(instance.getMethod()), defaultEstimate);
+        List<IMethodInstance> selected = methods;
+        int shardCount = ConfigReader.getShardCount();
+        if (shardCount > 1) {
+            // Every shard plans the same list from the same history, so the shards are disjoint
+            int shardIndex = ConfigReader.getShardIndex();
+            LptSchedule<IMethodInstance> shards = LptSchedule.plan(methods, estimate, shardCount);
+            selected = shards.getAssignment(shardIndex);
+            LOG.info("🧩 '{}' shard {}/{}: {} of {} method(s), predicted {} ms", context.getName(),
+                shardIndex + 1, shardCount, selected.size(), methods.size(), shards.getWorkerLoads()[shardIndex]);
+        }
+        if (!ConfigReader.isDurationSchedulingEnabled() || selected.size() < 2) {
+            return selected;
+        }
+        LptSchedule<IMethodInstance> schedule = LptSchedule.plan(selected, estimate, workerCount(context));
+        predictedMakespans.put(context.getName(), schedule.getPredictedMakespanMillis());
+        return schedule.getOrder();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (method.isTestMethod() || testMethod.isBeforeMethodConfiguration()) {
+            MEASUREMENT.get().begin();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        Measurement measurement = MEASUREMENT.get();
+        if (method.isTestMethod()) {
+            measurement.testName = qualifiedName(testMethod);
+            measurement.update();
+        } else if (testMethod.isAfterMethodConfiguration()) {
+            measurement.update();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Long> measured = new HashMap<>(Measurement.COMPLETED);
+        Measurement.COMPLETED.clear();
+        try {
+            DurationHistory.update(Paths.get(ConfigReader.getDurationHistoryFile()), measured);
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not save test duration history: {}", e.getMessage());
+        }
+        for (Map.Entry<String, ISuiteResult> entry : suite.getResults().entrySet()) {
+            ITestContext context = entry.getValue().getTestContext();
+            Long predicted = predictedMakespans.get(context.getName());
+            long actual = context.getEndDate().getTime() - context.getStartDate().getTime();
+            if (predicted != null) {
+                LOG.info("🗓️ '{}' makespan: predicted {} ms, actual {} ms over {} worker(s)", context.getName(),
+                    predicted, actual, workerCount(context));
+            }
+        }
+    }
+
+    static String qualifiedName(ITestNGMethod method) {
+        return CommandMetricsListener.qualifiedName(method);
+    }
+
+    private DurationHistory history() {
+        DurationHistory current = history;
+        if (current == null) {
+            // Interceptors can run before onStart when registered outside testng.xml
+            current = DurationHistory.load(Paths.get(ConfigReader.getShardHistoryFile()));
+            history = current;
+        }
+        return current;
+    }
+
+    private static int workerCount(ITestContext context) {
+        XmlSuite.ParallelMode parallel = context.getCurrentXmlTest().getParallel();
+        if (parallel == null || !parallel.isParallel()) {
+            return 1;
+        }
+        return Math.max(1, context.getCurrentXmlTest().getThreadCount());
+    }
+
+    /**
+     * Wall time of the test running on one thread: starts at its first @BeforeMethod
+     * (or the test itself) and is extended by each @AfterMethod that follows
+     */
+    private static final class Measurement {
+        private static final Map<String, Long> COMPLETED = new ConcurrentHashMap<>();
+
+        private long startNanos;
+        private String testName;
+
+        private void begin() {
+            if (testName != null || startNanos == 0) {
+                // A new test begins once the previous one has been attributed
+                testName = null;
+                startNanos = System.nanoTime();
+            }
+        }
+
+        private void update() {
+            if (testName != null) {
+                COMPLETED.put(testName, (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        }
+    }
+}
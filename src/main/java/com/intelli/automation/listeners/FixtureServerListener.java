@@ -0,0 +1,25 @@
+package com.intelli.automation.listeners;
+
+import com.intelli.automation.server.FixtureServer;
+import com.intelli.automation.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Fixture server listener following Intelli-Test framework
+ * Starts the local fixture server once per suite
+ */
+public class FixtureServerListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigReader.isFixtureServerEnabled()) {
+            FixtureServer.start();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FixtureServer.stop();
+    }
+}
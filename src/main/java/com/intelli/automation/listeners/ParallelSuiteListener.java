@@ -0,0 +1,31 @@
+package com.intelli.automation.listeners;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Parallel suite listener following Intelli-Test framework
+ * Sizes the TestNG worker pool from the machine's cores and memory
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    private static final Logger LOG = Logger.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threadCount = ConfigReader.getThreadCount();
+        String parallelMode = ConfigReader.getProperty("parallel.mode");
+        for (XmlSuite suite : suites) {
+            if (parallelMode != null) {
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallelMode));
+            }
+            suite.setThreadCount(threadCount);
+            LOG.info("⚙️ Suite '{}' running {} in parallel with {} worker(s)", suite.getName(),
+                suite.getParallel(), threadCount);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.intelli.automation.listeners;
+
+import com.intelli.automation.driver.DriverPool;
+import com.intelli.automation.utils.ConfigReader;
+import org.testng.IExecutionListener;
+
+/**
+ * Session pre-warm listener following Intelli-Test framework
+ * Starts launching pooled browser sessions as soon as TestNG starts executing, so
+ * the launches overlap test discovery, fixture setup and the first tests
+ */
+public class SessionPrewarmListener implements IExecutionListener {
+
+    @Override
+    public void onExecutionStart() {
+        int count = ConfigReader.getPoolPrewarmCount();
+        if (count > 0) {
+            DriverPool.getInstance().prewarm(count);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.intelli.automation.load;
+
+import com.intelli.automation.driver.DriverFactory;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.metrics.LatencyHistogram;
+import com.intelli.automation.pages.SamplePage;
+import com.intelli.automation.server.FixtureServer;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load generator following Intelli-Test framework
+ * Replays page-object flows from load.users concurrent headless sessions: users start
+ * evenly over load.ramp.up seconds, all of them run for load.hold seconds more, and each
+ * pauses load.think.ms between steps. Throughput and latency percentiles are reported
+ * per step and for the whole flow. With the fixture server enabled (the default) it runs
+ * against the local fixtures and needs no network; otherwise base.url is the target.
+ * Separate from the TestNG suite: run with mvn test -Pload
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOG = Logger.getLogger(LoadGenerator.class);
+
+    private static final String FLOW = "flow";
+    private static final String REPORT_FILE = "load-report.csv";
+
+    /**
+     * The steps of {@link SamplePage#testFormFieldOperations()}, each timed on its own
+     */
+    public static final List<LoadStep> FORM_FIELD_FLOW = Arrays.asList(
+        new LoadStep("open", SamplePage::navigateToInputsPage),
+        new LoadStep("numeric", page -> page.testNumericInput("12345")),
+        new LoadStep("text", page -> page.testTextInput("abc")),
+        new LoadStep("special", page -> page.testSpecialCharacterInput("!@#$%")));
+
+    private final List<LoadStep> flow;
+    private final int users;
+    private final long rampUpNanos;
+    private final long holdNanos;
+    private final long thinkMillis;
+    // Filled once in the constructor, then only read: per-step state is thread-safe on its own
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private long elapsedNanos;
+
+    /**
+     * Create a load generator
+     * @param flow Steps every user runs in a loop
+     * @param users Concurrent users, each with its own browser session
+     * @param rampUpSeconds Time over which users start
+     * @param holdSeconds Time all users keep running after ramp-up
+     * @param thinkMillis Pause between steps
+     */
+    public LoadGenerator(List<LoadStep> flow, int users, int rampUpSeconds, int holdSeconds, long thinkMillis) {
+        this.flow = flow;
+        this.users = users;
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(rampUpSeconds);
+        this.holdNanos = TimeUnit.SECONDS.toNanos(holdSeconds);
+        this.thinkMillis = thinkMillis;
+        for (LoadStep step : flow) {
+            latencies.put(step.getName(), new LatencyHistogram());
+            errors.put(step.getName(), new LongAdder());
+        }
+        latencies.put(FLOW, new LatencyHistogram());
+        errors.put(FLOW, new LongAdder());
+    }
+
+    /**
+     * Run the form field flow with the configured load and exit non-zero if any step failed
+     * Browsers run headless and page timings stay out of the cross-build time series
+     * unless browser.headless or perf.capture.enabled is set
+     * @param args Unused
+     * @throws Exception if the load run cannot complete
+     */
+    public static void main(String[] args) throws Exception {
+        boolean defaults = false;
+        if (!ConfigReader.hasProperty("browser.headless")) {
+            System.setProperty("browser.headless", "true");
+            defaults = true;
+        }
+        if (!ConfigReader.hasProperty("perf.capture.enabled")) {
+            System.setProperty("perf.capture.enabled", "false");
+            defaults = true;
+        }
+        if (defaults) {
+            ConfigReader.reload();
+        }
+        boolean fixtures = ConfigReader.isFixtureServerEnabled();
+        if (fixtures) {
+            FixtureServer.start();
+        }
+        int status;
+        try {
+            LoadGenerator generator = new LoadGenerator(FORM_FIELD_FLOW, ConfigReader.getLoadUsers(),
+                ConfigReader.getLoadRampUpSeconds(), ConfigReader.getLoadHoldSeconds(),
+                ConfigReader.getLoadThinkMillis());
+            generator.run();
+            generator.writeReport(Paths.get(ConfigReader.getMetricsOutputDir(), REPORT_FILE));
+            status = generator.getErrorCount() == 0 ? 0 : 1;
+        } finally {
+            if (fixtures) {
+                FixtureServer.stop();
+            }
+            Logger.flush(1000);
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Run all users to the end of the hold phase
+     * Users finish the flow iteration they are in when time runs out
+     * @throws InterruptedException if interrupted while users are running
+     */
+    public void run() throws InterruptedException {
+        LOG.info("🏋️ Load: {} user(s) against {}, ramp-up {} s, hold {} s, think {} ms", users,
+            ConfigReader.getBaseUrl(), TimeUnit.NANOSECONDS.toSeconds(rampUpNanos),
+            TimeUnit.NANOSECONDS.toSeconds(holdNanos), thinkMillis);
+        long start = System.nanoTime();
+        long deadline = start + rampUpNanos + holdNanos;
+        List<Thread> threads = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            int id = user + 1;
+            long startAt = start + rampUpNanos * user / users;
+            Thread thread = new Thread(() -> runUser(id, startAt, deadline), "load-user-" + id);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        elapsedNanos = System.nanoTime() - start;
+        logReport();
+    }
+
+    private void runUser(int user, long startAt, long deadline) {
+        WebDriver driver = null;
+        try {
+            sleepNanos(startAt - System.nanoTime());
+            while (System.nanoTime() < deadline) {
+                if (driver == null) {
+                    // Session start-up is not part of any step's latency
+                    driver = DriverFactory.createDriver();
+                }
+                SamplePage page = new SamplePage(driver);
+                long flowNanos = 0;
+                boolean completed = true;
+                for (LoadStep step : flow) {
+                    long stepStart = System.nanoTime();
+                    try {
+                        step.run(page);
+                    } catch (RuntimeException | AssertionError e) {
+                        errors.get(step.getName()).increment();
+                        errors.get(FLOW).increment();
+                        LOG.warn("⚠️ Load user {} failed step {}: {}", user, step.getName(), e.toString());
+                        if (!isAlive(driver)) {
+                            quit(driver);
+                            driver = null;
+                        }
+                        completed = false;
+                        break;
+                    }
+                    long stepNanos = System.nanoTime() - stepStart;
+                    latencies.get(step.getName()).recordNanos(stepNanos);
+                    flowNanos += stepNanos;
+                    sleepNanos(TimeUnit.MILLISECONDS.toNanos(thinkMillis));
+                }
+                if (completed) {
+                    // End-to-end latency of the flow, think time excluded
+                    latencies.get(FLOW).recordNanos(flowNanos);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (WebDriverException e) {
+            errors.get(FLOW).increment();
+            LOG.warn("⚠️ Load user {} could not start a browser: {}", user, e.toString());
+        } finally {
+            if (driver != null) {
+                quit(driver);
+            }
+        }
+    }
+
+    /**
+     * Get number of failed steps
+     * @return Error count
+     */
+    public long getErrorCount() {
+        return errors.get(FLOW).sum();
+    }
+
+    /**
+     * Get latency histogram of a step
+     * @param step Step name, or flow for whole iterations
+     * @return Histogram, or null for unknown steps
+     */
+    public LatencyHistogram getLatencies(String step) {
+        return latencies.get(step);
+    }
+
+    /**
+     * Write one CSV row per step and one for the whole flow
+     * @param file Report file
+     * @throws IOException if the report cannot be written
+     */
+    public void writeReport(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("step,count,errors,per_second,p50_ms,p90_ms,p99_ms,max_ms\n");
+            for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                out.write(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.1f,%.1f,%.1f,%.1f%n", entry.getKey(),
+                    histogram.getCount(), errors.get(entry.getKey()).sum(), perSecond(histogram),
+                    histogram.getPercentileMillis(50), histogram.getPercentileMillis(90),
+                    histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+            }
+        }
+        LOG.info("📊 Load report written to {}", file.toAbsolutePath());
+    }
+
+    private void logReport() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format(Locale.ROOT,
+                "%n  %-10s %7d ok %5d errors %8.2f/s  p50=%.1f ms p90=%.1f ms p99=%.1f ms max=%.1f ms",
+                entry.getKey(), histogram.getCount(), errors.get(entry.getKey()).sum(), perSecond(histogram),
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(90),
+                histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+        LOG.info("🏋️ Load results over {} s:{}", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), report);
+    }
+
+    private double perSecond(LatencyHistogram histogram) {
+        return elapsedNanos == 0 ? 0 : histogram.getCount() * 1e9 / elapsedNanos;
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Session is already gone
+        }
+    }
+}
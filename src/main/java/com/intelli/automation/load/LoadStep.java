@@ -0,0 +1,37 @@
+package com.intelli.automation.load;
+
+import com.intelli.automation.pages.SamplePage;
+
+import java.util.function.Consumer;
+
+/**
+ * Load step following Intelli-Test framework
+ * One timed page-object action of a load flow
+ */
+public final class LoadStep {
+
+    private final String name;
+    private final Consumer<SamplePage> action;
+
+    /**
+     * Create a load step
+     * @param name Name the step is reported under
+     * @param action Page-object action
+     */
+    public LoadStep(String name, Consumer<SamplePage> action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    /**
+     * Get step name
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    void run(SamplePage page) {
+        action.accept(page);
+    }
+}
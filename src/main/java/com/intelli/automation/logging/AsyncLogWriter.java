@@ -0,0 +1,114 @@
+package com.intelli.automation.logging;
+
+import com.intelli.automation.utils.ConfigSnapshot;
+import com.intelli.automation.utils.ConfigReader;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous log writer following Intelli-Test framework
+ * Test threads only enqueue into a bounded ring buffer; a single daemon thread
+ * formats and writes in batches. When the buffer is full records are dropped
+ * and counted rather than stalling the test thread
+ */
+final class AsyncLogWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_BATCH = 256;
+    private static final long SHUTDOWN_FLUSH_MILLIS = 2000;
+
+    private static final AsyncLogWriter INSTANCE = new AsyncLogWriter(System.out, bufferSize());
+
+    private final BlockingQueue<LogRecord> buffer;
+    private final PrintStream out;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private AsyncLogWriter(PrintStream out, int capacity) {
+        this.out = out;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        Thread writer = new Thread(this::drainLoop, "async-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS), "async-log-flush"));
+    }
+
+    static AsyncLogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enqueue a record without blocking
+     * @param record Record to write
+     */
+    void submit(LogRecord record) {
+        if (buffer.offer(record)) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wait until everything enqueued so far has been written
+     * @param timeoutMillis Maximum time to wait
+     */
+    void flush(long timeoutMillis) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (written.get() < target && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder text = new StringBuilder();
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch, MAX_BATCH - 1);
+            for (LogRecord record : batch) {
+                record.appendTo(text);
+            }
+            long drops = dropped.get();
+            if (drops > reportedDrops) {
+                text.append("WARN  async-log-writer - ").append(drops - reportedDrops)
+                    .append(" log record(s) dropped, buffer full").append(System.lineSeparator());
+                reportedDrops = drops;
+            }
+            out.print(text);
+            out.flush();
+            written.addAndGet(batch.size());
+            batch.clear();
+            text.setLength(0);
+        }
+    }
+
+    private static int bufferSize() {
+        // The writer can start while ConfigReader is still loading its first snapshot
+        ConfigSnapshot config = ConfigReader.snapshot();
+        return config == null ? DEFAULT_BUFFER_SIZE
+            : Math.max(16, config.getInt("log.buffer.size", DEFAULT_BUFFER_SIZE));
+    }
+}
@@ -0,0 +1,36 @@
+package com.intelli.automation.logging;
+
+/**
+ * Log context following Intelli-Test framework
+ * Binds the running test to its thread so every log line can be correlated with it
+ */
+public final class LogContext {
+
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+    private LogContext() {
+    }
+
+    /**
+     * Bind a test to the current thread
+     * @param testName Qualified test name
+     */
+    public static void setTest(String testName) {
+        CURRENT_TEST.set(testName);
+    }
+
+    /**
+     * Get the test bound to the current thread
+     * @return Test name, or null outside a test
+     */
+    public static String getTest() {
+        return CURRENT_TEST.get();
+    }
+
+    /**
+     * Unbind the test from the current thread
+     */
+    public static void clear() {
+        CURRENT_TEST.remove();
+    }
+}
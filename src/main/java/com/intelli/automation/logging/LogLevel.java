@@ -0,0 +1,32 @@
+package com.intelli.automation.logging;
+
+import java.util.Locale;
+
+/**
+ * Log levels following Intelli-Test framework
+ * Ordered from most to least verbose
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Parse a configured level name
+     * @param name Level name, case-insensitive
+     * @param defaultLevel Level to use when the name is missing or unknown
+     * @return Parsed level
+     */
+    public static LogLevel parse(String name, LogLevel defaultLevel) {
+        if (name == null) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.intelli.automation.logging;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * One captured log event; formatted on the writer thread, not the caller's
+ */
+final class LogRecord {
+
+    private static final DateTimeFormatter TIME =
+        DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final long timestampMillis;
+    private final LogLevel level;
+    private final String logger;
+    private final String thread;
+    private final String test;
+    private final String template;
+    private final Object[] args;
+    private final Throwable error;
+
+    LogRecord(LogLevel level, String logger, String template, Object[] args, Throwable error) {
+        this.timestampMillis = System.currentTimeMillis();
+        this.level = level;
+        this.logger = logger;
+        this.thread = Thread.currentThread().getName();
+        this.test = LogContext.getTest();
+        this.template = template;
+        this.args = args;
+        this.error = error;
+    }
+
+    /**
+     * Append the formatted line, substituting each {} with the next argument
+     */
+    void appendTo(StringBuilder out) {
+        TIME.formatTo(Instant.ofEpochMilli(timestampMillis), out);
+        out.append(' ').append(String.format("%-5s", level)).append(" [").append(thread).append(']');
+        if (test != null) {
+            out.append(" [").append(test).append(']');
+        }
+        out.append(' ').append(logger).append(" - ");
+        int argIndex = 0;
+        int pos = 0;
+        while (pos < template.length()) {
+            int placeholder = template.indexOf("{}", pos);
+            if (placeholder < 0 || argIndex >= args.length) {
+                out.append(template, pos, template.length());
+                break;
+            }
+            out.append(template, pos, placeholder).append(args[argIndex++]);
+            pos = placeholder + 2;
+        }
+        out.append(System.lineSeparator());
+        if (error != null) {
+            out.append("    ").append(error).append(System.lineSeparator());
+            for (StackTraceElement frame : error.getStackTrace()) {
+                out.append("        at ").append(frame).append(System.lineSeparator());
+            }
+        }
+    }
+}
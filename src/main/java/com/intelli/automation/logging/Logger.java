@@ -0,0 +1,135 @@
+package com.intelli.automation.logging;
+
+import com.intelli.automation.utils.ConfigReader;
+import com.intelli.automation.utils.ConfigSnapshot;
+
+import java.util.function.Supplier;
+
+/**
+ * Logger following Intelli-Test framework
+ * Messages use {} placeholders. Arguments passed as suppliers are only evaluated
+ * when the level is enabled, so logging never costs a WebDriver round trip
+ * unless its output is actually wanted. Level comes from log.level (default INFO)
+ * and follows configuration reloads
+ */
+public final class Logger {
+
+    private static final LogLevel DEFAULT_LEVEL = LogLevel.INFO;
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static volatile Threshold threshold = new Threshold(null, DEFAULT_LEVEL);
+
+    private final String name;
+
+    private Logger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get a logger named after a class
+     * @param type Owning class
+     * @return Logger
+     */
+    public static Logger getLogger(Class<?> type) {
+        return new Logger(type.getSimpleName());
+    }
+
+    /**
+     * Check if a level would be written
+     * @param level Level to check
+     * @return true if enabled
+     */
+    public static boolean isEnabled(LogLevel level) {
+        return level != LogLevel.OFF && level.compareTo(currentLevel()) >= 0;
+    }
+
+    /**
+     * Wait until queued log lines have been written
+     * @param timeoutMillis Maximum time to wait
+     */
+    public static void flush(long timeoutMillis) {
+        AsyncLogWriter.getInstance().flush(timeoutMillis);
+    }
+
+    /**
+     * Get the number of records dropped because the buffer was full
+     * @return Dropped record count
+     */
+    public static long getDroppedCount() {
+        return AsyncLogWriter.getInstance().getDroppedCount();
+    }
+
+    public void debug(String message, Object... args) {
+        log(LogLevel.DEBUG, message, args, null);
+    }
+
+    public void debug(String message, Supplier<?>... args) {
+        log(LogLevel.DEBUG, message, args);
+    }
+
+    public void info(String message, Object... args) {
+        log(LogLevel.INFO, message, args, null);
+    }
+
+    public void info(String message, Supplier<?>... args) {
+        log(LogLevel.INFO, message, args);
+    }
+
+    public void warn(String message, Object... args) {
+        log(LogLevel.WARN, message, args, null);
+    }
+
+    public void warn(String message, Supplier<?>... args) {
+        log(LogLevel.WARN, message, args);
+    }
+
+    public void error(String message, Throwable error) {
+        log(LogLevel.ERROR, message, NO_ARGS, error);
+    }
+
+    public void error(String message, Object... args) {
+        log(LogLevel.ERROR, message, args, null);
+    }
+
+    private void log(LogLevel level, String message, Supplier<?>[] suppliers) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        // Suppliers run on the caller's thread: they may touch its thread-bound driver
+        Object[] args = new Object[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            args[i] = suppliers[i].get();
+        }
+        AsyncLogWriter.getInstance().submit(new LogRecord(level, name, message, args, null));
+    }
+
+    private void log(LogLevel level, String message, Object[] args, Throwable error) {
+        if (isEnabled(level)) {
+            AsyncLogWriter.getInstance().submit(new LogRecord(level, name, message, args, error));
+        }
+    }
+
+    private static LogLevel currentLevel() {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        Threshold current = threshold;
+        if (config == null || current.source == config) {
+            return current.level;
+        }
+        current = new Threshold(config, LogLevel.parse(config.get("log.level"), DEFAULT_LEVEL));
+        threshold = current;
+        return current.level;
+    }
+
+    /**
+     * Level parsed from one configuration snapshot
+     */
+    private static final class Threshold {
+        private final ConfigSnapshot source;
+        private final LogLevel level;
+
+        private Threshold(ConfigSnapshot source, LogLevel level) {
+            this.source = source;
+            this.level = level;
+        }
+    }
+}
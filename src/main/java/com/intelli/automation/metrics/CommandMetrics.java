@@ -0,0 +1,167 @@
+package com.intelli.automation.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Command metrics following Intelli-Test framework
+ * Collects WebDriver command latency histograms per test method and per suite, and
+ * keeps the last commands of each thread as a trace for failure reports
+ */
+public final class CommandMetrics {
+
+    private static final String OUTSIDE_TEST = "(outside test)";
+    private static final int TRACE_SIZE = 100;
+
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+    private static final Map<String, LatencyHistogram> SUITE = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, LatencyHistogram>> PER_TEST = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Trace> TRACE = ThreadLocal.withInitial(Trace::new);
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Attribute commands on the current thread to a test method
+     * @param testName Qualified test method name
+     */
+    public static void startTest(String testName) {
+        CURRENT_TEST.set(testName);
+        TRACE.get().clear();
+    }
+
+    /**
+     * Stop attributing commands on the current thread to a test method
+     */
+    public static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Get the test method the current thread is running
+     * @return Qualified test method name, or null outside a test
+     */
+    public static String getCurrentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    /**
+     * Record one command
+     * @param command Command key, e.g. {@code WebElement.sendKeys [tag name: input]}
+     * @param nanos Command latency
+     */
+    public static void record(String command, long nanos) {
+        TRACE.get().add(command, nanos);
+        histogram(SUITE, command).recordNanos(nanos);
+        String test = CURRENT_TEST.get();
+        Map<String, LatencyHistogram> testCommands =
+            PER_TEST.computeIfAbsent(test == null ? OUTSIDE_TEST : test, key -> new ConcurrentHashMap<>());
+        histogram(testCommands, command).recordNanos(nanos);
+    }
+
+    /**
+     * Get the last commands run on the current thread since its test started
+     * @return One formatted line per command, oldest first; at most 100
+     */
+    public static List<String> getTrace() {
+        return TRACE.get().lines();
+    }
+
+    /**
+     * Build the full report: suite-wide and per-test histograms
+     * @return Ordered map suitable for JSON output
+     */
+    public static Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", summarise(SUITE));
+        Map<String, Object> tests = new TreeMap<>();
+        for (Map.Entry<String, Map<String, LatencyHistogram>> entry : PER_TEST.entrySet()) {
+            tests.put(entry.getKey(), summarise(entry.getValue()));
+        }
+        report.put("tests", tests);
+        return report;
+    }
+
+    /**
+     * Get the slowest commands across the suite, ranked by p95
+     * @param limit Number of commands to return
+     * @return One formatted line per command
+     */
+    public static List<String> getSlowestCommands(int limit) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(SUITE.entrySet());
+        entries.sort(Comparator.comparingDouble(
+            (Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getPercentileMillis(95)).reversed());
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            LatencyHistogram histogram = entry.getValue();
+            lines.add(String.format("%s: count=%d, p50=%.1f ms, p95=%.1f ms, p99=%.1f ms, max=%.1f ms",
+                entry.getKey(), histogram.getCount(), histogram.getPercentileMillis(50),
+                histogram.getPercentileMillis(95), histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+        }
+        return lines;
+    }
+
+    /**
+     * Clear all recorded metrics
+     */
+    public static void reset() {
+        SUITE.clear();
+        PER_TEST.clear();
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String command) {
+        LatencyHistogram histogram = histograms.get(command);
+        return histogram != null ? histogram : histograms.computeIfAbsent(command, key -> new LatencyHistogram());
+    }
+
+    private static Map<String, Object> summarise(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> summary = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            summary.put(entry.getKey(), entry.getValue().toMap());
+        }
+        return summary;
+    }
+
+    /**
+     * Fixed-size ring of one thread's recent commands; lines are only formatted when read
+     */
+    private static final class Trace {
+        private final String[] commands = new String[TRACE_SIZE];
+        private final long[] endMillis = new long[TRACE_SIZE];
+        private final long[] nanos = new long[TRACE_SIZE];
+        private int next;
+        private int size;
+
+        private void add(String command, long elapsed) {
+            commands[next] = command;
+            endMillis[next] = System.currentTimeMillis();
+            nanos[next] = elapsed;
+            next = (next + 1) % TRACE_SIZE;
+            size = Math.min(size + 1, TRACE_SIZE);
+        }
+
+        private void clear() {
+            Arrays.fill(commands, null);
+            next = 0;
+            size = 0;
+        }
+
+        private List<String> lines() {
+            List<String> lines = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int slot = (next - size + i + TRACE_SIZE) % TRACE_SIZE;
+                lines.add(String.format(Locale.ROOT, "%s %8.1f ms  %s", Instant.ofEpochMilli(endMillis[slot]),
+                    nanos[slot] / 1e6, commands[slot]));
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.intelli.automation.metrics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Command timing listener following Intelli-Test framework
+ * Times every call made through a decorated WebDriver and feeds {@link CommandMetrics}
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final ThreadLocal<CallStack> CALLS = ThreadLocal.withInitial(CallStack::new);
+
+    private final Map<WebElement, String> locators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        CALLS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        long elapsed = System.nanoTime() - CALLS.get().pop();
+        CommandMetrics.record(commandKey(target, method, args), elapsed);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        long elapsed = System.nanoTime() - CALLS.get().pop();
+        CommandMetrics.record(commandKey(target, method, args) + " !" + e.getTargetException().getClass().getSimpleName(),
+            elapsed);
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        locators.put(result, describe(locator));
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        locators.put(result, describe(locator));
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        String description = describe(locator);
+        for (WebElement element : result) {
+            locators.put(element, description);
+        }
+    }
+
+    private String commandKey(Object target, Method method, Object[] args) {
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String locator = null;
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            locator = describe((By) args[0]);
+        } else if (target instanceof WebElement) {
+            locator = locators.get(target);
+        }
+        return locator == null ? command : command + " [" + locator + "]";
+    }
+
+    private static String describe(By locator) {
+        String description = locator.toString();
+        return description.startsWith("By.") ? description.substring(3) : description;
+    }
+
+    /**
+     * Start times of the calls in flight on one thread; decorated calls may nest
+     */
+    private static final class CallStack {
+        private long[] starts = new long[8];
+        private int depth;
+
+        private void push(long start) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, depth * 2);
+            }
+            starts[depth++] = start;
+        }
+
+        private long pop() {
+            return depth == 0 ? System.nanoTime() : starts[--depth];
+        }
+    }
+}
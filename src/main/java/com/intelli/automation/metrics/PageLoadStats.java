@@ -0,0 +1,156 @@
+package com.intelli.automation.metrics;
+
+import com.intelli.automation.driver.FastProfile;
+import com.intelli.automation.driver.fake.FakeWebDriver;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Page load statistics following Intelli-Test framework
+ * Times each framework navigation per page path with the requests the fast profile blocked.
+ * Runs without the fast profile store their average load times as a baseline, which
+ * fast-profile runs compare against to report the time saved per navigation.
+ * Fake browser navigations are not timed: they would drag real load times towards zero
+ */
+public final class PageLoadStats {
+
+    private static final Map<String, UrlStats> STATS = new ConcurrentHashMap<>();
+
+    private PageLoadStats() {
+    }
+
+    /**
+     * Load a URL and record how long it took and how many requests were blocked
+     * @param driver Driver to navigate
+     * @param url URL to load
+     */
+    public static void navigate(WebDriver driver, String url) {
+        if (FakeWebDriver.isFake(driver)) {
+            driver.get(url);
+            return;
+        }
+        long blockedBefore = FastProfile.getBlockedCount(driver);
+        long start = System.nanoTime();
+        driver.get(url);
+        long elapsed = System.nanoTime() - start;
+        STATS.computeIfAbsent(pageKey(url), key -> new UrlStats())
+            .record(elapsed, FastProfile.getBlockedCount(driver) - blockedBefore);
+    }
+
+    /**
+     * Get per-page load summary, with the saving against the baseline in fast-profile runs
+     * @return One line per page path
+     */
+    public static String getSummary() {
+        Map<String, Long> baseline = FastProfile.isEnabled() ? loadBaseline() : Map.of();
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, UrlStats> entry : new TreeMap<>(STATS).entrySet()) {
+            UrlStats stats = entry.getValue();
+            long avgMillis = stats.averageMillis();
+            summary.append(String.format("%n   %s: loads=%d, avg=%d ms, blocked=%d", entry.getKey(),
+                stats.count.sum(), avgMillis, stats.blocked.sum()));
+            Long before = baseline.get(entry.getKey());
+            if (before != null) {
+                summary.append(String.format(", saved=%d ms per load vs %d ms baseline", before - avgMillis, before));
+            }
+        }
+        return summary.length() == 0 ? " no navigations recorded" : summary.toString();
+    }
+
+    /**
+     * Store this run's average load times as the baseline, unless the fast profile was on
+     * @throws IOException if the baseline cannot be written
+     */
+    public static void saveBaseline() throws IOException {
+        if (FastProfile.isEnabled() || STATS.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(ConfigReader.getPageLoadBaselineFile());
+        Map<String, Long> baseline = new TreeMap<>(loadBaseline());
+        for (Map.Entry<String, UrlStats> entry : STATS.entrySet()) {
+            baseline.put(entry.getKey(), entry.getValue().averageMillis());
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> entry : baseline.entrySet()) {
+            properties.setProperty(entry.getKey(), Long.toString(entry.getValue()));
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            properties.store(out, "Average navigation time in milliseconds without the fast profile");
+        }
+    }
+
+    /**
+     * Clear all recorded statistics
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * Key pages by path: the fixture server picks a new port every run
+     */
+    private static String pageKey(String url) {
+        try {
+            URI uri = new URI(url);
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+            return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+        } catch (URISyntaxException e) {
+            return url;
+        }
+    }
+
+    private static Map<String, Long> loadBaseline() {
+        Path file = Paths.get(ConfigReader.getPageLoadBaselineFile());
+        Map<String, Long> baseline = new TreeMap<>();
+        if (!Files.isRegularFile(file)) {
+            return baseline;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return baseline;
+        }
+        for (String url : properties.stringPropertyNames()) {
+            try {
+                baseline.put(url, Long.parseLong(properties.getProperty(url).trim()));
+            } catch (NumberFormatException e) {
+                // Skip corrupt entries; the next baseline run rewrites them
+            }
+        }
+        return baseline;
+    }
+
+    private static final class UrlStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder blocked = new LongAdder();
+
+        private void record(long elapsedNanos, long blockedRequests) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            blocked.add(blockedRequests);
+        }
+
+        private long averageMillis() {
+            long loads = count.sum();
+            return loads == 0 ? 0 : totalNanos.sum() / loads / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.intelli.automation.metrics;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Page performance capture following Intelli-Test framework
+ * Reads Navigation Timing, Paint Timing and long tasks from the browser after a
+ * navigation, checks them against the page's budgets and appends them to a
+ * time-series file that accumulates across builds
+ */
+public final class PagePerformance {
+
+    private static final Logger LOG = Logger.getLogger(PagePerformance.class);
+
+    /** Metric names, in time-series column order */
+    public static final List<String> METRICS = Arrays.asList("ttfb", "domContentLoaded", "load", "firstPaint",
+        "firstContentfulPaint", "longTaskCount", "longTaskTotal");
+
+    /** File locks are held per JVM: a second thread locking the file would fail instead of waiting */
+    private static final ReentrantLock APPEND_LOCK = new ReentrantLock();
+
+    /**
+     * Collects everything in one async round trip. Long tasks are not kept in the
+     * performance timeline, so a buffered observer is asked for what it has seen
+     */
+    private static final String CAPTURE_SCRIPT =
+        "var done = arguments[arguments.length - 1], out = {};"
+        + "var nav = performance.getEntriesByType('navigation')[0];"
+        + "if (nav) {"
+        + "  out.ttfb = nav.responseStart - nav.startTime;"
+        + "  out.domContentLoaded = nav.domContentLoadedEventEnd > 0"
+        + "    ? nav.domContentLoadedEventEnd - nav.startTime : null;"
+        + "  out.load = nav.loadEventEnd > 0 ? nav.loadEventEnd - nav.startTime : null;"
+        + "}"
+        + "performance.getEntriesByType('paint').forEach(function(p) {"
+        + "  if (p.name === 'first-paint') { out.firstPaint = p.startTime; }"
+        + "  if (p.name === 'first-contentful-paint') { out.firstContentfulPaint = p.startTime; }"
+        + "});"
+        + "try {"
+        + "  var observer = new PerformanceObserver(function() {});"
+        + "  observer.observe({type: 'longtask', buffered: true});"
+        + "  setTimeout(function() {"
+        + "    var tasks = observer.takeRecords(), total = 0;"
+        + "    observer.disconnect();"
+        + "    tasks.forEach(function(t) { total += t.duration; });"
+        + "    out.longTaskCount = tasks.length; out.longTaskTotal = total; done(out);"
+        + "  }, 0);"
+        + "} catch (e) { done(out); }";
+
+    private static final String HEADER = "timestamp,build,test,page," + String.join(",", METRICS) + "\n";
+
+    private PagePerformance() {
+    }
+
+    /**
+     * Capture the current page's timings, enforce budgets and append them to the time series
+     * @param driver Driver that just navigated
+     * @param url URL that was loaded
+     * @throws AssertionError if a budget is exceeded and perf.budget.action is fail
+     */
+    public static void capture(WebDriver driver, String url) {
+        if (!ConfigReader.isPagePerformanceEnabled() || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        Map<String, Double> timings;
+        try {
+            timings = read((JavascriptExecutor) driver);
+        } catch (WebDriverException e) {
+            LOG.debug("Page performance unavailable for {}: {}", url, e.getMessage());
+            return;
+        }
+        String page = pagePath(url);
+        try {
+            append(Paths.get(ConfigReader.getPagePerformanceFile()), page, timings);
+        } catch (IOException e) {
+            LOG.warn("⚠️ Could not write page performance: {}", e.getMessage());
+        }
+        checkBudgets(page, timings);
+    }
+
+    private static Map<String, Double> read(JavascriptExecutor executor) {
+        Object result = executor.executeAsyncScript(CAPTURE_SCRIPT);
+        Map<String, Double> timings = new LinkedHashMap<>();
+        if (result instanceof Map) {
+            Map<?, ?> values = (Map<?, ?>) result;
+            for (String metric : METRICS) {
+                Object value = values.get(metric);
+                if (value instanceof Number) {
+                    timings.put(metric, ((Number) value).doubleValue());
+                }
+            }
+        }
+        return timings;
+    }
+
+    private static void checkBudgets(String page, Map<String, Double> timings) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> timing : timings.entrySet()) {
+            Long budget = ConfigReader.getPerformanceBudget(page, timing.getKey());
+            if (budget != null && timing.getValue() > budget) {
+                violations.add(String.format("%s %.0f > %d", timing.getKey(), timing.getValue(), budget));
+            }
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = "Performance budget exceeded on " + page + ": " + String.join(", ", violations);
+        if (ConfigReader.isPerformanceBudgetFailing()) {
+            throw new AssertionError(message);
+        }
+        LOG.warn("⚠️ {}", message);
+    }
+
+    /**
+     * Append one row; locked because parallel threads and shards share the file:
+     * threads of this JVM take turns, other JVMs are kept out by the file lock
+     */
+    private static void append(Path file, String page, Map<String, Double> timings) throws IOException {
+        StringBuilder row = new StringBuilder()
+            .append(Instant.now()).append(',')
+            .append(csv(ConfigReader.getBuildId())).append(',')
+            .append(csv(String.valueOf(CommandMetrics.getCurrentTest()))).append(',')
+            .append(csv(page));
+        for (String metric : METRICS) {
+            Double value = timings.get(metric);
+            row.append(',').append(value == null ? "" : String.format(Locale.ROOT, "%.1f", value));
+        }
+        row.append('\n');
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        APPEND_LOCK.lock();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            FileLock lock = channel.lock();
+            try {
+                if (channel.size() == 0) {
+                    channel.write(ByteBuffer.wrap(HEADER.getBytes(StandardCharsets.UTF_8)));
+                }
+                channel.write(ByteBuffer.wrap(row.toString().getBytes(StandardCharsets.UTF_8)));
+            } finally {
+                lock.release();
+            }
+        } finally {
+            APPEND_LOCK.unlock();
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String pagePath(String url) {
+        try {
+            String path = new URI(url).getRawPath();
+            return path == null || path.isEmpty() ? "/" : path;
+        } catch (URISyntaxException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.intelli.automation.metrics;
+
+import com.intelli.automation.logging.LogContext;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Browser session telemetry following Intelli-Test framework
+ * Samples JS heap, DOM node, listener and layout counters through DevTools whenever a
+ * pooled session is leased or released, and flags sessions whose heap keeps growing
+ */
+public final class SessionTelemetry {
+
+    private static final Logger LOG = Logger.getLogger(SessionTelemetry.class);
+
+    private static final String CSV_FILE = "session-telemetry.csv";
+    private static final String JSON_FILE = "session-telemetry.json";
+    private static final String LEASE = "lease";
+
+    /** DevTools Performance.getMetrics names, in export column order */
+    private static final List<String> METRICS = List.of("JSHeapUsedSize", "JSHeapTotalSize", "Nodes",
+        "JSEventListeners", "Documents", "LayoutCount", "RecalcStyleCount");
+
+    private static final Map<Integer, List<Sample>> SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<Integer, Boolean> LEAKING = new ConcurrentHashMap<>();
+
+    private SessionTelemetry() {
+    }
+
+    /**
+     * Sample a session's counters
+     * @param sessionId Pool-assigned session number
+     * @param driver Session's driver
+     * @param phase lease (clean session, before the test) or release (after the test)
+     */
+    public static void sample(int sessionId, WebDriver driver, String phase) {
+        if (!ConfigReader.isSessionTelemetryEnabled() || !(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, Object> result;
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            // Enabling is idempotent and cheaper than tracking which sessions were enabled
+            cdp.executeCdpCommand("Performance.enable", Collections.emptyMap());
+            result = cdp.executeCdpCommand("Performance.getMetrics", Collections.emptyMap());
+        } catch (WebDriverException e) {
+            LOG.debug("Session telemetry unavailable: {}", e.getMessage());
+            return;
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        Object metrics = result.get("metrics");
+        if (metrics instanceof List) {
+            for (Object metric : (List<?>) metrics) {
+                Map<?, ?> entry = (Map<?, ?>) metric;
+                if (METRICS.contains(entry.get("name")) && entry.get("value") instanceof Number) {
+                    values.put((String) entry.get("name"), ((Number) entry.get("value")).doubleValue());
+                }
+            }
+        }
+        List<Sample> samples =
+            SESSIONS.computeIfAbsent(sessionId, key -> Collections.synchronizedList(new ArrayList<>()));
+        samples.add(new Sample(Instant.now(), phase, String.valueOf(LogContext.getTest()), values));
+        if (LEASE.equals(phase) && !LEAKING.containsKey(sessionId) && isGrowing(samples)) {
+            LEAKING.put(sessionId, Boolean.TRUE);
+            LOG.warn("⚠️ Session {} JS heap grew on each of the last {} leases to {} MB", sessionId,
+                ConfigReader.getTelemetryLeakWindow(), Math.round(values.get("JSHeapUsedSize") / (1024 * 1024)));
+        }
+    }
+
+    /**
+     * Check if a session was flagged for monotonic heap growth
+     * @param sessionId Pool-assigned session number
+     * @return true if flagged, false otherwise
+     */
+    public static boolean isLeaking(int sessionId) {
+        return LEAKING.containsKey(sessionId);
+    }
+
+    /**
+     * Heap measured on a clean session at each lease grew every time over the window
+     * and by more than the threshold in total
+     */
+    private static boolean isGrowing(List<Sample> samples) {
+        List<Double> heaps = new ArrayList<>();
+        synchronized (samples) {
+            for (Sample sample : samples) {
+                Double heap = sample.values.get("JSHeapUsedSize");
+                if (LEASE.equals(sample.phase) && heap != null) {
+                    heaps.add(heap);
+                }
+            }
+        }
+        int window = ConfigReader.getTelemetryLeakWindow();
+        if (heaps.size() < window + 1) {
+            return false;
+        }
+        List<Double> recent = heaps.subList(heaps.size() - window - 1, heaps.size());
+        for (int i = 1; i < recent.size(); i++) {
+            if (recent.get(i) <= recent.get(i - 1)) {
+                return false;
+            }
+        }
+        double growthMb = (recent.get(recent.size() - 1) - recent.get(0)) / (1024 * 1024);
+        return growthMb > ConfigReader.getTelemetryLeakThresholdMb();
+    }
+
+    /**
+     * Write every sample to CSV and JSON under the metrics output directory
+     * @throws IOException if the files cannot be written
+     */
+    public static void export() throws IOException {
+        if (SESSIONS.isEmpty()) {
+            return;
+        }
+        Path dir = Paths.get(ConfigReader.getMetricsOutputDir());
+        Files.createDirectories(dir);
+        Map<String, Object> report = new TreeMap<>();
+        try (BufferedWriter csv = Files.newBufferedWriter(dir.resolve(CSV_FILE), StandardCharsets.UTF_8)) {
+            csv.write("session,timestamp,phase,test," + String.join(",", METRICS) + ",leaking");
+            csv.newLine();
+            for (Map.Entry<Integer, List<Sample>> session : new TreeMap<>(SESSIONS).entrySet()) {
+                List<Object> rows = new ArrayList<>();
+                synchronized (session.getValue()) {
+                    for (Sample sample : session.getValue()) {
+                        StringBuilder line = new StringBuilder().append(session.getKey()).append(',')
+                            .append(sample.timestamp).append(',').append(sample.phase).append(',')
+                            .append(sample.test);
+                        for (String metric : METRICS) {
+                            Double value = sample.values.get(metric);
+                            line.append(',').append(value == null ? "" : String.valueOf(value.longValue()));
+                        }
+                        csv.write(line.append(',').append(isLeaking(session.getKey())).toString());
+                        csv.newLine();
+                        rows.add(sample.toMap());
+                    }
+                }
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("leaking", isLeaking(session.getKey()));
+                entry.put("samples", rows);
+                report.put(String.valueOf(session.getKey()), entry);
+            }
+        }
+        Files.write(dir.resolve(JSON_FILE), new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        LOG.info("🧠 Session telemetry for {} session(s) written to {}, {} flagged", SESSIONS.size(),
+            dir.toAbsolutePath(), LEAKING.size());
+    }
+
+    /**
+     * Clear all samples
+     */
+    public static void reset() {
+        SESSIONS.clear();
+        LEAKING.clear();
+    }
+
+    private static final class Sample {
+        private final Instant timestamp;
+        private final String phase;
+        private final String test;
+        private final Map<String, Double> values;
+
+        private Sample(Instant timestamp, String phase, String test, Map<String, Double> values) {
+            this.timestamp = timestamp;
+            this.phase = phase;
+            this.test = test;
+            this.values = values;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("timestamp", timestamp.toString());
+            map.put("phase", phase);
+            map.put("test", test);
+            for (Map.Entry<String, Double> value : values.entrySet()) {
+                map.put(value.getKey(), value.getValue().longValue());
+            }
+            return map;
+        }
+    }
+}
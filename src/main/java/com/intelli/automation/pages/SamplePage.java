@@ -1,31 +1,58 @@
 package com.intelli.automation.pages;
 
 import com.intelli.automation.base.BasePage;
+import com.intelli.automation.base.FieldSnapshot;
+import com.intelli.automation.base.TextEntryMode;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Sample page object following Intelli-Test framework
  * Focuses ONLY on form field interactions (no login functionality)
  */
 public class SamplePage extends BasePage {
     
-    // Form field elements using @FindBy annotation
+    private static final Logger LOG = Logger.getLogger(SamplePage.class);
+    
+    public static final String INPUTS_PATH = "/inputs";
+    
+    // Form field elements, bound by the generated SamplePageElements
+    // Package-private so the binder can assign them without reflection
     @FindBy(tagName = "input")
-    private WebElement inputField;
+    WebElement inputField;
     
     @FindBy(id = "number-input")
-    private WebElement numberInput;
+    WebElement numberInput;
     
     @FindBy(id = "text-input")
-    private WebElement textInput;
+    WebElement textInput;
     
     @FindBy(id = "form-field")
-    private WebElement formField;
+    WebElement formField;
+    
+    public SamplePage() {
+        super();
+        SamplePageElements.bind(this, elements);
+    }
     
     public SamplePage(WebDriver driver) {
         super(driver);
+        SamplePageElements.bind(this, elements);
+    }
+    
+    /**
+     * Navigate to the inputs page under the configured base URL
+     */
+    public void navigateToInputsPage() {
+        navigateToInputsPage(ConfigReader.getBaseUrl() + INPUTS_PATH);
     }
     
     /**
@@ -33,8 +60,8 @@ public class SamplePage extends BasePage {
      * @param url The URL to navigate to
      */
     public void navigateToInputsPage(String url) {
-        driver.get(url);
-        System.out.println("🌐 Navigated to inputs page: " + url);
+        open(url);
+        LOG.info("🌐 Navigated to inputs page: {}", url);
     }
     
     /**
@@ -42,7 +69,7 @@ public class SamplePage extends BasePage {
      */
     public void clearInputField() {
         sendKeysToElement(inputField, "");
-        System.out.println("🧹 Cleared input field");
+        LOG.debug("🧹 Cleared input field");
     }
     
     /**
@@ -51,7 +78,17 @@ public class SamplePage extends BasePage {
      */
     public void typeInInputField(String text) {
         sendKeysToElement(inputField, text);
-        System.out.println("⌨️ Typed in input field: " + text);
+        LOG.debug("⌨️ Typed in input field: {}", text);
+    }
+    
+    /**
+     * Replace the input field text using a given entry mode
+     * @param text Text to enter
+     * @param mode How the text is entered
+     */
+    public void typeInInputField(String text, TextEntryMode mode) {
+        enterText(inputField, text, mode);
+        LOG.debug("⌨️ Entered {} chars in input field ({})", text.length(), mode);
     }
     
     /**
@@ -59,7 +96,58 @@ public class SamplePage extends BasePage {
      * @return Current value
      */
     public String getInputFieldValue() {
-        return getElementText(inputField);
+        waitForElementToBeVisible(inputField);
+        return inputField.getAttribute("value");
+    }
+    
+    /**
+     * Enter a value and read back the field state in one browser call
+     * @param value Value to enter
+     * @return Field state after entry
+     */
+    public FieldSnapshot enterInputValue(String value) {
+        return enterInputValues(value).get(0);
+    }
+    
+    /**
+     * Enter several values in turn and read back the field state after each, in one browser call
+     * @param values Values to enter, in order
+     * @return Field state after each entry
+     */
+    public List<FieldSnapshot> enterInputValues(String... values) {
+        return fillFields(Collections.nCopies(values.length, inputField), Arrays.asList(values));
+    }
+    
+    /**
+     * Enter values into named fields in turn and read back each field's state, in one browser call
+     * @param fields Field names, e.g. inputField
+     * @param values Values to enter, null to only snapshot the field
+     * @return Field state after each entry
+     */
+    public List<FieldSnapshot> enterFieldValues(List<String> fields, List<String> values) {
+        List<WebElement> targets = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            targets.add(getField(field));
+        }
+        return fillFields(targets, values);
+    }
+    
+    /**
+     * Get a form field by its field name
+     * @param name Field name, e.g. inputField
+     * @return Bound element
+     * @throws IllegalArgumentException If the page has no such field
+     */
+    public WebElement getField(String name) {
+        return SamplePageElements.field(this, name);
+    }
+    
+    /**
+     * Get input field state in one browser call
+     * @return Value, visibility, enabled state and validity
+     */
+    public FieldSnapshot getInputFieldSnapshot() {
+        return snapshotFields(inputField).get(0);
     }
     
     /**
@@ -77,7 +165,7 @@ public class SamplePage extends BasePage {
     public void testNumericInput(String number) {
         clearInputField();
         typeInInputField(number);
-        System.out.println("🔢 Tested numeric input: " + number);
+        LOG.info("🔢 Tested numeric input: {}", number);
     }
     
     /**
@@ -87,7 +175,7 @@ public class SamplePage extends BasePage {
     public void testTextInput(String text) {
         clearInputField();
         typeInInputField(text);
-        System.out.println("📝 Tested text input: " + text);
+        LOG.info("📝 Tested text input: {}", text);
     }
     
     /**
@@ -97,7 +185,7 @@ public class SamplePage extends BasePage {
     public void testSpecialCharacterInput(String specialChars) {
         clearInputField();
         typeInInputField(specialChars);
-        System.out.println("🔤 Tested special character input: " + specialChars);
+        LOG.info("🔤 Tested special character input: {}", specialChars);
     }
     
     /**
@@ -110,21 +198,21 @@ public class SamplePage extends BasePage {
         
         // Verify value
         String currentValue = getInputFieldValue();
-        System.out.println("✅ Input field validation completed. Current value: " + currentValue);
+        LOG.info("✅ Input field validation completed. Current value: {}", currentValue);
     }
     
     /**
      * Test form field operations
      */
     public void testFormFieldOperations() {
-        System.out.println("📝 Testing form field operations...");
+        LOG.info("📝 Testing form field operations...");
         
         // Test various input scenarios
         testNumericInput("12345");
         testTextInput("abc");
         testSpecialCharacterInput("!@#$%");
         
-        System.out.println("✅ Form field operations completed");
+        LOG.info("✅ Form field operations completed");
     }
     
     /**
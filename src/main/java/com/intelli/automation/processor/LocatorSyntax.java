@@ -0,0 +1,107 @@
+package com.intelli.automation.processor;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Locator syntax checks following Intelli-Test framework
+ * Catches locators the browser would reject, so they fail the build instead of a test run
+ */
+final class LocatorSyntax {
+
+    private LocatorSyntax() {
+    }
+
+    /**
+     * Check a locator value
+     * @param strategy @FindBy attribute name (id, css, xpath, ...)
+     * @param value Locator value
+     * @return Description of the problem, or null if the locator looks valid
+     */
+    static String check(String strategy, String value) {
+        if (value.trim().isEmpty()) {
+            return strategy + " is empty";
+        }
+        switch (strategy) {
+            case "className":
+                if (value.trim().contains(" ")) {
+                    return "className '" + value + "' holds several classes; use css = \"."
+                        + value.trim().replaceAll("\\s+", ".") + "\"";
+                }
+                return null;
+            case "css":
+                return checkCss(value);
+            case "xpath":
+                return checkXpath(value);
+            default:
+                return null;
+        }
+    }
+
+    private static String checkXpath(String value) {
+        try {
+            XPathFactory.newInstance().newXPath().compile(value);
+            return null;
+        } catch (XPathExpressionException e) {
+            return "invalid xpath '" + value + "'";
+        }
+    }
+
+    /**
+     * Bracket, quote and combinator balance; full selector grammar is left to the browser
+     */
+    private static String checkCss(String value) {
+        int brackets = 0;
+        int parens = 0;
+        char quote = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\\':
+                    i++;
+                    break;
+                case '"':
+                case '\'':
+                    quote = c;
+                    break;
+                case '[':
+                    brackets++;
+                    break;
+                case ']':
+                    brackets--;
+                    break;
+                case '(':
+                    parens++;
+                    break;
+                case ')':
+                    parens--;
+                    break;
+                default:
+                    break;
+            }
+            if (brackets < 0 || parens < 0) {
+                return "unbalanced '" + c + "' in css '" + value + "'";
+            }
+        }
+        if (quote != 0) {
+            return "unterminated string in css '" + value + "'";
+        }
+        if (brackets != 0 || parens != 0) {
+            return "unclosed " + (brackets != 0 ? "'['" : "'('") + " in css '" + value + "'";
+        }
+        String trimmed = value.trim();
+        char last = trimmed.charAt(trimmed.length() - 1);
+        if (last == '>' || last == '+' || last == '~' || last == ',' || trimmed.charAt(0) == ',') {
+            return "dangling combinator in css '" + value + "'";
+        }
+        return null;
+    }
+}
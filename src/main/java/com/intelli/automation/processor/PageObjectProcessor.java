@@ -0,0 +1,300 @@
+package com.intelli.automation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Page-object annotation processor following Intelli-Test framework
+ * Reads {@code @FindBy} fields at compile time and generates a {@code <Page>Elements}
+ * class next to each page: one constant locator per field and a bind method that
+ * assigns {@link com.intelli.automation.base.ElementHandle}s from the page's
+ * {@link com.intelli.automation.base.ElementCache} without reflection, plus a
+ * by-name field lookup for data-driven callers.
+ * Broken locators and fields the binder cannot assign fail the build
+ */
+@SupportedAnnotationTypes({PageObjectProcessor.FIND_BY, PageObjectProcessor.FIND_BYS, PageObjectProcessor.FIND_ALL})
+public class PageObjectProcessor extends AbstractProcessor {
+
+    static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    static final String FIND_BYS = "org.openqa.selenium.support.FindBys";
+    static final String FIND_ALL = "org.openqa.selenium.support.FindAll";
+
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String CACHE = "com.intelli.automation.base.ElementCache";
+    private static final String SUFFIX = "Elements";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Messager messager = processingEnv.getMessager();
+        Map<TypeElement, List<LocatedField>> pages = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!FIND_BY.equals(name)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@" + annotation.getSimpleName()
+                        + " is not supported by generated page objects; use a single @FindBy", element);
+                    continue;
+                }
+                LocatedField field = toLocatedField(element);
+                if (field != null) {
+                    pages.computeIfAbsent((TypeElement) element.getEnclosingElement(), page -> new ArrayList<>())
+                        .add(field);
+                }
+            }
+        }
+        for (Map.Entry<TypeElement, List<LocatedField>> page : pages.entrySet()) {
+            writeBinder(page.getKey(), page.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Validate a @FindBy field and turn it into a locator expression
+     * @return Field, or null after reporting an error
+     */
+    private LocatedField toLocatedField(Element element) {
+        Messager messager = processingEnv.getMessager();
+        AnnotationMirror findBy = findByMirror(element);
+        if (element.getKind() != ElementKind.FIELD) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@FindBy is only supported on fields", element, findBy);
+            return null;
+        }
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.FINAL)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@FindBy field '" + element.getSimpleName()
+                + "' must be a non-private, non-static, non-final instance field so the generated binder can assign it",
+                element, findBy);
+            return null;
+        }
+        Element enclosing = element.getEnclosingElement();
+        if (enclosing.getKind() != ElementKind.CLASS || enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@FindBy fields must be declared in a non-private class",
+                element, findBy);
+            return null;
+        }
+        TypeElement webElement = processingEnv.getElementUtils().getTypeElement(WEB_ELEMENT);
+        if (webElement == null
+                || !processingEnv.getTypeUtils().isSameType(element.asType(), webElement.asType())) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@FindBy field '" + element.getSimpleName()
+                + "' must be a WebElement; look up lists with findElements", element, findBy);
+            return null;
+        }
+
+        Map<String, String> strategies = new LinkedHashMap<>();
+        String how = null;
+        String using = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : findBy.getElementValues().entrySet()) {
+            String attribute = entry.getKey().getSimpleName().toString();
+            Object value = entry.getValue().getValue();
+            if ("how".equals(attribute)) {
+                how = ((VariableElement) value).getSimpleName().toString();
+            } else if ("using".equals(attribute)) {
+                using = (String) value;
+            } else if ("id".equals(attribute) || "name".equals(attribute) || "className".equals(attribute)
+                    || "css".equals(attribute) || "tagName".equals(attribute) || "linkText".equals(attribute)
+                    || "partialLinkText".equals(attribute) || "xpath".equals(attribute)) {
+                strategies.put(attribute, (String) value);
+            }
+        }
+        if (how != null && !"UNSET".equals(how)) {
+            String strategy = howToStrategy(how);
+            if (strategy == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Unsupported @FindBy how = " + how, element, findBy);
+                return null;
+            }
+            strategies.put(strategy, using == null ? "" : using);
+        }
+        if (strategies.size() != 1) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@FindBy on '" + element.getSimpleName()
+                + "' must set exactly one locator strategy, found " + strategies.keySet(), element, findBy);
+            return null;
+        }
+        Map.Entry<String, String> strategy = strategies.entrySet().iterator().next();
+        String problem = LocatorSyntax.check(strategy.getKey(), strategy.getValue());
+        if (problem != null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Broken @FindBy locator on '" + element.getSimpleName()
+                + "': " + problem, element, findBy);
+            return null;
+        }
+        return new LocatedField(element.getSimpleName().toString(),
+            locatorExpression(strategy.getKey(), strategy.getValue()));
+    }
+
+    private AnnotationMirror findByMirror(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (FIND_BY.equals(type.getQualifiedName().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String howToStrategy(String how) {
+        switch (how) {
+            case "ID":
+                return "id";
+            case "NAME":
+                return "name";
+            case "CLASS_NAME":
+                return "className";
+            case "CSS":
+                return "css";
+            case "TAG_NAME":
+                return "tagName";
+            case "LINK_TEXT":
+                return "linkText";
+            case "PARTIAL_LINK_TEXT":
+                return "partialLinkText";
+            case "XPATH":
+                return "xpath";
+            case "ID_OR_NAME":
+                return "idOrName";
+            default:
+                return null;
+        }
+    }
+
+    private static String locatorExpression(String strategy, String value) {
+        String literal = javaString(value);
+        switch (strategy) {
+            case "css":
+                return "By.cssSelector(" + literal + ")";
+            case "idOrName":
+                return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + literal + ")";
+            default:
+                return "By." + strategy + "(" + literal + ")";
+        }
+    }
+
+    private void writeBinder(TypeElement page, List<LocatedField> fields) {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getQualifiedName().toString();
+        String binderName = binaryName(page, packageName).replace('$', '_') + SUFFIX;
+        String qualifiedBinder = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedBinder, page);
+            try (Writer out = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    out.write("package " + packageName + ";\n\n");
+                }
+                out.write("import " + CACHE + ";\n");
+                out.write("import org.openqa.selenium.By;\n\n");
+                out.write("/**\n * Locators and binder for {@link " + pageName + "}\n"
+                    + " * Generated from its @FindBy fields; do not edit\n */\n");
+                out.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+                out.write("final class " + binderName + " {\n\n");
+                for (LocatedField field : fields) {
+                    out.write("    static final By " + field.constantName() + " = " + field.locator + ";\n");
+                }
+                out.write("\n    private " + binderName + "() {\n    }\n\n");
+                out.write("    /**\n     * Assign a stale-aware handle to every @FindBy field of the page\n"
+                    + "     * @param page Page to bind\n     * @param elements Element cache of the page\n"
+                    + "     */\n");
+                out.write("    static void bind(" + pageName + " page, ElementCache elements) {\n");
+                for (LocatedField field : fields) {
+                    out.write("        page." + field.name + " = elements.handle(\"" + page.getSimpleName() + "."
+                        + field.name + "\", " + field.constantName() + ");\n");
+                }
+                out.write("    }\n\n");
+                out.write("    /**\n     * Get a @FindBy field of the page by name\n     * @param page Page holding the field\n"
+                    + "     * @param name Field name\n     * @return Bound element\n     */\n");
+                out.write("    static org.openqa.selenium.WebElement field(" + pageName + " page, String name) {\n");
+                out.write("        switch (name) {\n");
+                for (LocatedField field : fields) {
+                    out.write("            case " + javaString(field.name) + ":\n");
+                    out.write("                return page." + field.name + ";\n");
+                }
+                out.write("            default:\n");
+                out.write("                throw new IllegalArgumentException(\"No @FindBy field \" + name + \" on "
+                    + page.getSimpleName() + "\");\n");
+                out.write("        }\n    }\n}\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not generate " + qualifiedBinder + ": " + e.getMessage(), page);
+        }
+    }
+
+    private static String binaryName(TypeElement type, String packageName) {
+        String qualified = type.getQualifiedName().toString();
+        String simple = packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+        return simple.replace('.', '$');
+    }
+
+    private static String javaString(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static final class LocatedField {
+        private final String name;
+        private final String locator;
+
+        private LocatedField(String name, String locator) {
+            this.name = name;
+            this.locator = locator;
+        }
+
+        /** inputField becomes INPUT_FIELD */
+        private String constantName() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.intelli.automation.proxy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP archive following Intelli-Test framework
+ * Stores recorded responses on disk, one body file and one header file per request.
+ * Bodies above the mapping threshold are memory-mapped once and shared by every replay
+ */
+public final class HttpArchive {
+
+    private static final String HEADERS_SUFFIX = ".headers";
+    private static final String BODY_SUFFIX = ".body";
+
+    private final Path directory;
+    private final long mapThresholdBytes;
+    private final Map<String, ByteBuffer> mappedBodies = new ConcurrentHashMap<>();
+
+    public HttpArchive(Path directory, long mapThresholdBytes) {
+        this.directory = directory;
+        this.mapThresholdBytes = mapThresholdBytes;
+    }
+
+    /**
+     * Get the archive key of a request
+     * @param method HTTP method
+     * @param url Absolute URL
+     * @param body Request body, empty if none
+     * @return Key naming the archive files
+     */
+    public static String key(String method, String url, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + url).getBytes(StandardCharsets.UTF_8));
+            if (body.length > 0) {
+                digest.update((byte) 0);
+                digest.update(body);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Look up a recorded response
+     * @param key Archive key
+     * @return Response, or null if it was never recorded
+     * @throws IOException if the archive cannot be read
+     */
+    public RecordedResponse get(String key) throws IOException {
+        Path headersFile = directory.resolve(key + HEADERS_SUFFIX);
+        if (!Files.isRegularFile(headersFile)) {
+            return null;
+        }
+        List<String> lines = Files.readAllLines(headersFile, StandardCharsets.UTF_8);
+        int status = Integer.parseInt(lines.get(0).trim());
+        List<String[]> headers = new ArrayList<>(lines.size());
+        for (String line : lines.subList(1, lines.size())) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.add(new String[] {line.substring(0, colon), line.substring(colon + 1).trim()});
+            }
+        }
+        return new RecordedResponse(status, headers, body(key));
+    }
+
+    private ByteBuffer body(String key) throws IOException {
+        ByteBuffer mapped = mappedBodies.get(key);
+        if (mapped != null) {
+            return mapped.duplicate();
+        }
+        Path bodyFile = directory.resolve(key + BODY_SUFFIX);
+        long size = Files.size(bodyFile);
+        if (size < mapThresholdBytes) {
+            return ByteBuffer.wrap(Files.readAllBytes(bodyFile));
+        }
+        try (FileChannel channel = FileChannel.open(bodyFile, StandardOpenOption.READ)) {
+            // The mapping outlives the channel; keep it so later replays skip the syscall
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mappedBodies.putIfAbsent(key, buffer);
+            return buffer.duplicate();
+        }
+    }
+
+    /**
+     * Store a response; the header file is written last, so a crash never leaves a half entry
+     * @param key Archive key
+     * @param url Absolute URL, kept in the header file for people browsing the archive
+     * @param response Response to store
+     * @throws IOException if the archive cannot be written
+     */
+    public void put(String key, String url, RecordedResponse response) throws IOException {
+        Files.createDirectories(directory);
+        Path body = Files.createTempFile(directory, key, ".tmp");
+        Files.write(body, toArray(response.getBody()));
+        Files.move(body, directory.resolve(key + BODY_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        Path headers = Files.createTempFile(directory, key, ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(headers, StandardCharsets.UTF_8)) {
+            out.write(Integer.toString(response.getStatus()));
+            out.newLine();
+            for (String[] header : response.getHeaders()) {
+                out.write(header[0] + ": " + header[1]);
+                out.newLine();
+            }
+            out.write("X-Archived-From: " + url);
+            out.newLine();
+        }
+        Files.move(headers, directory.resolve(key + HEADERS_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        mappedBodies.remove(key);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Response held in the archive
+     */
+    public static final class RecordedResponse {
+        private final int status;
+        private final List<String[]> headers;
+        private final ByteBuffer body;
+
+        public RecordedResponse(int status, List<String[]> headers, ByteBuffer body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public List<String[]> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Get the body; read through a duplicate when sharing it between threads
+         * @return Body bytes
+         */
+        public ByteBuffer getBody() {
+            return body;
+        }
+    }
+}
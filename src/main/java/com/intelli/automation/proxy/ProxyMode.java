@@ -0,0 +1,42 @@
+package com.intelli.automation.proxy;
+
+import java.util.Locale;
+
+/**
+ * Record/replay proxy modes following Intelli-Test framework
+ */
+public enum ProxyMode {
+
+    /** No proxy; the browser talks to the network directly */
+    OFF,
+    /** Fetch everything from the network and store it in the archive */
+    RECORD,
+    /** Serve only from the archive; anything missing fails without touching the network */
+    REPLAY,
+    /** Serve from the archive and record what is missing */
+    AUTO;
+
+    /**
+     * Parse a configured mode
+     * @param value Mode name, case-insensitive
+     * @return Mode, OFF when value is null or blank
+     */
+    public static ProxyMode parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return OFF;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown proxy.mode '" + value + "', expected off, record, replay or auto");
+        }
+    }
+
+    boolean reads() {
+        return this == REPLAY || this == AUTO;
+    }
+
+    boolean writes() {
+        return this == RECORD || this == AUTO;
+    }
+}
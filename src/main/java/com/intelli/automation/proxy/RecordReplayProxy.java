@@ -0,0 +1,378 @@
+package com.intelli.automation.proxy;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.proxy.HttpArchive.RecordedResponse;
+import com.intelli.automation.utils.ConfigReader;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Record/replay proxy following Intelli-Test framework
+ * HTTP proxy the browser is pointed at: in record mode it stores every response in an
+ * {@link HttpArchive}, in replay mode it answers from the archive without any network.
+ * HTTPS is tunnelled unrecorded while recording and refused while replaying; point
+ * base.url at an http:// origin to capture the pages under test
+ */
+public final class RecordReplayProxy {
+
+    private static final Logger LOG = Logger.getLogger(RecordReplayProxy.class);
+
+    private static final int MAX_LINE = 16 * 1024;
+    /** Hop-by-hop headers plus those java.net.http sets itself */
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList(
+        "connection", "keep-alive", "proxy-connection", "proxy-authorization", "proxy-authenticate", "te",
+        "trailer", "transfer-encoding", "upgrade", "content-length", "host", "expect", "date", "via", "from",
+        "warning"));
+    /** Dropped from recorded requests so a warm browser's revalidation cannot archive a bodiless 304 */
+    private static final Set<String> CONDITIONAL_HEADERS = new HashSet<>(Arrays.asList(
+        "if-none-match", "if-modified-since", "if-match", "if-unmodified-since", "if-range"));
+
+    private static RecordReplayProxy instance;
+
+    private final ProxyMode mode;
+    private final HttpArchive archive;
+    private final HttpClient client;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesReplayed = new LongAdder();
+    private final LongAdder bytesRecorded = new LongAdder();
+    private final LongAdder tunnels = new LongAdder();
+
+    private RecordReplayProxy(ProxyMode mode, HttpArchive archive, int port) throws IOException {
+        this.mode = mode;
+        this.archive = archive;
+        this.client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(ConfigReader.getTimeout()))
+            .build();
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "record-replay-proxy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::acceptLoop);
+    }
+
+    /**
+     * Start the proxy in the configured mode if it is not already running
+     * @return Proxy address as host:port, or null when proxy.mode is off
+     */
+    public static synchronized String start() {
+        ProxyMode mode = ConfigReader.getProxyMode();
+        if (mode == ProxyMode.OFF) {
+            return null;
+        }
+        if (instance == null) {
+            HttpArchive archive = new HttpArchive(Paths.get(ConfigReader.getProxyArchiveDir()),
+                ConfigReader.getProxyMapThresholdBytes());
+            try {
+                instance = new RecordReplayProxy(mode, archive, ConfigReader.getProxyPort());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start record/replay proxy", e);
+            }
+            LOG.info("📼 Record/replay proxy in {} mode at {}, archive {}", mode, instance.getAddress(),
+                Paths.get(ConfigReader.getProxyArchiveDir()).toAbsolutePath());
+        }
+        return instance.getAddress();
+    }
+
+    /**
+     * Stop the proxy and log its statistics
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            LOG.info("📼 Record/replay proxy stats: {}", instance.getStatsSummary());
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Get statistics of the running proxy
+     * @return Summary, or a note that the proxy is not running
+     */
+    public static synchronized String getStats() {
+        return instance == null ? "proxy not running" : instance.getStatsSummary();
+    }
+
+    private String getAddress() {
+        return serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    private String getStatsSummary() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return String.format("hits=%d, misses=%d, hit ratio=%.1f%%, bytes saved=%d, bytes recorded=%d, tunnels=%d",
+            hitCount, misses.sum(), lookups == 0 ? 0 : 100.0 * hitCount / lookups, bytesReplayed.sum(),
+            bytesRecorded.sum(), tunnels.sum());
+    }
+
+    private void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOG.warn("⚠️ Proxy accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Serve requests on one browser connection until either side closes it
+     */
+    private void serve(Socket socket) {
+        try (Socket client = socket) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = client.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    return;
+                }
+                String[] parts = requestLine.split(" ");
+                if (parts.length != 3) {
+                    sendError(out, 400, "Malformed request line");
+                    return;
+                }
+                List<String[]> headers = readHeaders(in);
+                if ("CONNECT".equals(parts[0])) {
+                    tunnel(client, in, out, parts[1]);
+                    return;
+                }
+                byte[] body = readBody(in, headers);
+                if (body == null) {
+                    sendError(out, 501, "Chunked request bodies are not supported");
+                    return;
+                }
+                if (!handle(parts[0], parts[1], headers, body, out)) {
+                    return;
+                }
+            }
+        } catch (SocketException e) {
+            // Browser closed the connection
+        } catch (IOException e) {
+            LOG.debug("Proxy connection failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Answer one request from the archive or the network
+     * @return true if the connection may be reused
+     */
+    private boolean handle(String method, String url, List<String[]> headers, byte[] body, OutputStream out)
+            throws IOException {
+        if (!url.startsWith("http://")) {
+            sendError(out, 400, "Only absolute http:// URLs can be proxied");
+            return false;
+        }
+        String key = HttpArchive.key(method, url, body);
+        if (mode.reads()) {
+            RecordedResponse recorded = archive.get(key);
+            if (recorded != null) {
+                hits.increment();
+                bytesReplayed.add(recorded.getBody().remaining());
+                sendResponse(out, recorded);
+                return true;
+            }
+        }
+        misses.increment();
+        if (!mode.writes()) {
+            sendError(out, 504, "Not in archive: " + method + " " + url);
+            return true;
+        }
+        RecordedResponse fetched;
+        try {
+            fetched = fetch(method, url, headers, body);
+        } catch (IOException e) {
+            sendError(out, 502, "Upstream request failed: " + e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        archive.put(key, url, fetched);
+        bytesRecorded.add(fetched.getBody().remaining());
+        sendResponse(out, fetched);
+        return true;
+    }
+
+    private RecordedResponse fetch(String method, String url, List<String[]> headers, byte[] body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(ConfigReader.getTimeout()))
+            .method(method, body.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String[] header : headers) {
+            String name = header[0].toLowerCase(Locale.ROOT);
+            if (!SKIPPED_HEADERS.contains(name) && !CONDITIONAL_HEADERS.contains(name)) {
+                request.header(header[0], header[1]);
+            }
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        List<String[]> responseHeaders = new ArrayList<>();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            if (header.getKey().startsWith(":") || SKIPPED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                responseHeaders.add(new String[] {header.getKey(), value});
+            }
+        }
+        return new RecordedResponse(response.statusCode(), responseHeaders, ByteBuffer.wrap(response.body()));
+    }
+
+    /**
+     * Pass an HTTPS connection straight through while recording; refuse it while replaying
+     */
+    private void tunnel(Socket client, InputStream in, OutputStream out, String authority) throws IOException {
+        if (!mode.writes()) {
+            misses.increment();
+            sendError(out, 403, "HTTPS cannot be replayed: " + authority);
+            return;
+        }
+        int colon = authority.lastIndexOf(':');
+        String host = colon < 0 ? authority : authority.substring(0, colon);
+        int port = colon < 0 ? 443 : Integer.parseInt(authority.substring(colon + 1));
+        try (Socket upstream = new Socket(host, port)) {
+            tunnels.increment();
+            out.write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            executor.execute(() -> pipe(in, upstream));
+            pipe(upstream.getInputStream(), client);
+        }
+    }
+
+    private static void pipe(InputStream from, Socket to) {
+        try {
+            from.transferTo(to.getOutputStream());
+        } catch (IOException e) {
+            // Either side closed the tunnel
+        } finally {
+            try {
+                to.shutdownOutput();
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+    }
+
+    private static void sendResponse(OutputStream out, RecordedResponse response) throws IOException {
+        ByteBuffer body = response.getBody().duplicate();
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(response.getStatus()).append(" \r\n");
+        for (String[] header : response.getHeaders()) {
+            head.append(header[0]).append(": ").append(header[1]).append("\r\n");
+        }
+        head.append("Content-Length: ").append(body.remaining()).append("\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        // Mapped bodies go to the socket without being copied onto the heap
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        out.flush();
+    }
+
+    private static void sendError(OutputStream out, int status, String message) throws IOException {
+        List<String[]> headers = new ArrayList<>();
+        headers.add(new String[] {"Content-Type", "text/plain; charset=utf-8"});
+        sendResponse(out, new RecordedResponse(status, headers,
+            ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static List<String[]> readHeaders(InputStream in) throws IOException {
+        List<String[]> headers = new ArrayList<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.add(new String[] {line.substring(0, colon).trim(), line.substring(colon + 1).trim()});
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Read the request body
+     * @return Body, empty if there is none, null if it is chunked
+     */
+    private static byte[] readBody(InputStream in, List<String[]> headers) throws IOException {
+        for (String[] header : headers) {
+            if ("transfer-encoding".equalsIgnoreCase(header[0])) {
+                return null;
+            }
+        }
+        for (String[] header : headers) {
+            if ("content-length".equalsIgnoreCase(header[0])) {
+                return in.readNBytes(Integer.parseInt(header[1].trim()));
+            }
+        }
+        return new byte[0];
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                if (line.size() == MAX_LINE) {
+                    throw new IOException("Header line too long");
+                }
+                line.write(b);
+            }
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,154 @@
+package com.intelli.automation.scheduling;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test duration history following Intelli-Test framework
+ * Keeps a smoothed wall time per test method in a local properties file and
+ * estimates durations for tests that have never run
+ */
+public final class DurationHistory {
+
+    /** Weight of the newest run; smooths out one-off slow or fast runs */
+    private static final double SMOOTHING = 0.5;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load history from a file; a missing or unreadable file gives an empty history
+     * @param file History file
+     * @return History
+     */
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                return history;
+            }
+            for (String name : properties.stringPropertyNames()) {
+                try {
+                    history.durations.put(name, Long.parseLong(properties.getProperty(name).trim()));
+                } catch (NumberFormatException e) {
+                    // Skip corrupt entries; the test gets re-measured
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Get recorded duration
+     * @param testName Qualified test name
+     * @return Duration in milliseconds, or null if never recorded
+     */
+    public Long get(String testName) {
+        return durations.get(testName);
+    }
+
+    /**
+     * Estimate a duration: recorded value, else the median of the same class,
+     * else the median of all tests, else the default
+     * @param testName Qualified test name (Class.method)
+     * @param defaultMillis Fallback when there is no history at all
+     * @return Estimate in milliseconds
+     */
+    public long estimate(String testName, long defaultMillis) {
+        Long recorded = durations.get(testName);
+        if (recorded != null) {
+            return recorded;
+        }
+        int dot = testName.lastIndexOf('.');
+        String classPrefix = dot < 0 ? null : testName.substring(0, dot + 1);
+        List<Long> sameClass = new ArrayList<>();
+        List<Long> all = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            all.add(entry.getValue());
+            if (classPrefix != null && entry.getKey().startsWith(classPrefix)) {
+                sameClass.add(entry.getValue());
+            }
+        }
+        if (!sameClass.isEmpty()) {
+            return median(sameClass);
+        }
+        return all.isEmpty() ? defaultMillis : median(all);
+    }
+
+    /**
+     * Fold a measured duration into the history
+     * @param testName Qualified test name
+     * @param millis Measured wall time
+     */
+    public void record(String testName, long millis) {
+        durations.merge(testName, millis,
+            (previous, latest) -> Math.round(SMOOTHING * latest + (1 - SMOOTHING) * previous));
+    }
+
+    /**
+     * Fold measurements into the history file. The file is locked and re-read first,
+     * so shards finishing at the same time do not overwrite each other's results
+     * @param file History file
+     * @param measured Wall time per qualified test name in milliseconds
+     * @throws IOException if the file cannot be written
+     */
+    public static void update(Path file, Map<String, Long> measured) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path lockFile = parent.resolve(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                DurationHistory history = load(file);
+                for (Map.Entry<String, Long> entry : measured.entrySet()) {
+                    history.record(entry.getKey(), entry.getValue());
+                }
+                history.save();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private void save() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, "durations", ".tmp");
+        // Sorted by test name so the file diffs cleanly between runs
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.ISO_8859_1)) {
+            out.write("# Smoothed test method wall time in milliseconds, setUp/tearDown included");
+            out.newLine();
+            for (Map.Entry<String, Long> entry : new TreeMap<>(durations).entrySet()) {
+                out.write(entry.getKey() + "=" + entry.getValue());
+                out.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long median(List<Long> values) {
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.intelli.automation.scheduling;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Longest-processing-time schedule following Intelli-Test framework
+ * Orders jobs longest-first and predicts how a pool of workers pulling from that
+ * queue will share them: each job goes to whichever worker frees up first
+ */
+public final class LptSchedule<T> {
+
+    private final List<T> order;
+    private final List<List<T>> assignments;
+    private final long[] workerLoads;
+
+    private LptSchedule(List<T> order, List<List<T>> assignments, long[] workerLoads) {
+        this.order = order;
+        this.assignments = assignments;
+        this.workerLoads = workerLoads;
+    }
+
+    /**
+     * Plan jobs across workers; equal estimates keep their original order
+     * @param jobs Jobs to run
+     * @param estimate Estimated duration per job in milliseconds
+     * @param workers Number of parallel workers
+     * @return Schedule
+     */
+    public static <T> LptSchedule<T> plan(List<T> jobs, ToLongFunction<T> estimate, int workers) {
+        List<Map.Entry<T, Long>> sized = new ArrayList<>(jobs.size());
+        for (T job : jobs) {
+            sized.add(new AbstractMap.SimpleImmutableEntry<>(job, estimate.applyAsLong(job)));
+        }
+        sized.sort(Map.Entry.<T, Long>comparingByValue(Comparator.reverseOrder()));
+
+        long[] loads = new long[Math.max(1, workers)];
+        PriorityQueue<Integer> idle = new PriorityQueue<>(
+            Comparator.<Integer>comparingLong(worker -> loads[worker]).thenComparingInt(worker -> worker));
+        for (int worker = 0; worker < loads.length; worker++) {
+            idle.add(worker);
+        }
+        List<List<T>> assignments = new ArrayList<>(loads.length);
+        for (int worker = 0; worker < loads.length; worker++) {
+            assignments.add(new ArrayList<>());
+        }
+        List<T> order = new ArrayList<>(sized.size());
+        for (Map.Entry<T, Long> job : sized) {
+            int worker = idle.poll();
+            loads[worker] += job.getValue();
+            idle.add(worker);
+            order.add(job.getKey());
+            assignments.get(worker).add(job.getKey());
+        }
+        return new LptSchedule<>(order, assignments, loads);
+    }
+
+    /**
+     * Get jobs in dispatch order, longest first
+     * @return Ordered jobs
+     */
+    public List<T> getOrder() {
+        return order;
+    }
+
+    /**
+     * Get the jobs predicted to run on one worker, longest first
+     * @param worker Worker index
+     * @return Assigned jobs
+     */
+    public List<T> getAssignment(int worker) {
+        return assignments.get(worker);
+    }
+
+    /**
+     * Get predicted time until the last worker finishes
+     * @return Makespan in milliseconds
+     */
+    public long getPredictedMakespanMillis() {
+        long makespan = 0;
+        for (long load : workerLoads) {
+            makespan = Math.max(makespan, load);
+        }
+        return makespan;
+    }
+
+    /**
+     * Get predicted busy time per worker
+     * @return Load in milliseconds per worker
+     */
+    public long[] getWorkerLoads() {
+        return workerLoads.clone();
+    }
+}
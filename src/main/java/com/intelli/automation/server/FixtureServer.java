@@ -0,0 +1,201 @@
+package com.intelli.automation.server;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixture server following Intelli-Test framework
+ * Serves local copies of the pages under test from the classpath
+ */
+public final class FixtureServer {
+
+    private static final Logger LOG = Logger.getLogger(FixtureServer.class);
+
+    private static final String RESOURCE_ROOT = "fixtures/";
+    private static final int CHUNK_SIZE = 1024;
+    private static final byte[] MISSING = new byte[0];
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static volatile String baseUrl;
+
+    private static final Map<String, byte[]> CONTENT = new ConcurrentHashMap<>();
+
+    private FixtureServer() {
+    }
+
+    /**
+     * Start the server if it is not already running
+     * @return Base URL of the server
+     */
+    public static synchronized String start() {
+        if (server != null) {
+            return baseUrl;
+        }
+        try {
+            InetAddress loopback = InetAddress.getLoopbackAddress();
+            server = HttpServer.create(new InetSocketAddress(loopback, ConfigReader.getFixtureServerPort()), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start fixture server", e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", FixtureServer::handle);
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        LOG.info("🏠 Fixture server started at {}", baseUrl);
+        return baseUrl;
+    }
+
+    /**
+     * Stop the server
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            baseUrl = null;
+            LOG.info("🏠 Fixture server stopped");
+        }
+    }
+
+    /**
+     * Check if the server is running
+     * @return true if running, false otherwise
+     */
+    public static boolean isRunning() {
+        return baseUrl != null;
+    }
+
+    /**
+     * Get base URL of the running server
+     * @return Base URL, or null if not running
+     */
+    public static String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Get the fixture served for a URL path, without going through HTTP
+     * @param path URL path, e.g. /inputs
+     * @return Fixture content, or null if there is no fixture for the path
+     */
+    public static byte[] getFixture(String path) {
+        byte[] body = CONTENT.computeIfAbsent(toResource(path), FixtureServer::load);
+        return body == MISSING ? null : body;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = getFixture(path);
+            sleep(ConfigReader.getFixtureLatencyMillis());
+            if (body == null) {
+                byte[] notFound = "Not Found".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(404, notFound.length);
+                exchange.getResponseBody().write(notFound);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType(path));
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            write(exchange.getResponseBody(), body, ConfigReader.getFixtureBandwidthKbps());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Write the body in chunks, pausing between them to honour the bandwidth limit
+     * Pauses are owed against a running total since the first byte, so chunks whose share
+     * is under a millisecond add up instead of each rounding down to no pause at all
+     */
+    private static void write(OutputStream out, byte[] body, int kbps) throws IOException {
+        if (kbps <= 0) {
+            out.write(body);
+            return;
+        }
+        double nanosPerByte = TimeUnit.SECONDS.toNanos(1) / (kbps * 1024.0);
+        long start = System.nanoTime();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            out.write(body, offset, length);
+            out.flush();
+            long dueNanos = start + (long) ((offset + length) * nanosPerByte);
+            sleep(TimeUnit.NANOSECONDS.toMillis(dueNanos - System.nanoTime()));
+        }
+    }
+
+    private static String toResource(String path) {
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        if (trimmed.isEmpty()) {
+            trimmed = "index";
+        }
+        if (trimmed.contains("..")) {
+            return RESOURCE_ROOT + "missing";
+        }
+        return RESOURCE_ROOT + (trimmed.contains(".") ? trimmed : trimmed + ".html");
+    }
+
+    private static byte[] load(String resource) {
+        try (InputStream in = FixtureServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return MISSING;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            in.transferTo(buffer);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        if (path.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        if (path.endsWith(".png")) {
+            return "image/png";
+        }
+        return "text/html; charset=utf-8";
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.intelli.automation.sharding;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shard result merger following Intelli-Test framework
+ * Combines the testng-results.xml of several shards into one report: totals are
+ * summed and each shard's suite is kept, labelled with the shard it ran on
+ */
+public final class ShardResultMerger {
+
+    private static final String ROOT = "testng-results";
+    private static final String[] COUNTERS = {"ignored", "total", "passed", "failed", "skipped"};
+
+    private ShardResultMerger() {
+    }
+
+    /**
+     * Merge result files given on the command line, for shards that ran on separate CI runners
+     * @param args Output file followed by the shard result files, in shard order
+     * @throws Exception if a file cannot be read or written
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardResultMerger <merged-results.xml> <shard-results.xml>...");
+            System.exit(2);
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(Paths.get(args[i]));
+        }
+        merge(inputs, Paths.get(args[0]));
+    }
+
+    /**
+     * Merge shard results; missing files are skipped so a crashed shard does not hide the others
+     * @param inputs testng-results.xml per shard, in shard order
+     * @param output Merged file
+     * @return Number of shard files merged
+     * @throws IOException if a file cannot be read or written
+     */
+    public static int merge(List<Path> inputs, Path output) throws IOException {
+        DocumentBuilder builder = newBuilder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement(ROOT);
+        merged.appendChild(root);
+        Element reporterOutput = merged.createElement("reporter-output");
+        root.appendChild(reporterOutput);
+        long[] totals = new long[COUNTERS.length];
+        int mergedCount = 0;
+
+        for (int shard = 0; shard < inputs.size(); shard++) {
+            Path input = inputs.get(shard);
+            if (!Files.isRegularFile(input)) {
+                continue;
+            }
+            Element shardRoot;
+            try {
+                shardRoot = builder.parse(input.toFile()).getDocumentElement();
+            } catch (SAXException e) {
+                throw new IOException("Could not parse " + input + ": " + e.getMessage(), e);
+            }
+            if (!ROOT.equals(shardRoot.getTagName())) {
+                throw new IOException(input + " is not a TestNG results file");
+            }
+            for (int i = 0; i < COUNTERS.length; i++) {
+                totals[i] += parseCount(shardRoot.getAttribute(COUNTERS[i]));
+            }
+            String label = " [shard " + (shard + 1) + "/" + inputs.size() + "]";
+            for (Node child : children(shardRoot)) {
+                if ("reporter-output".equals(child.getNodeName())) {
+                    for (Node line : children((Element) child)) {
+                        reporterOutput.appendChild(merged.importNode(line, true));
+                    }
+                } else if ("suite".equals(child.getNodeName())) {
+                    Element suite = (Element) merged.importNode(child, true);
+                    suite.setAttribute("name", suite.getAttribute("name") + label);
+                    root.appendChild(suite);
+                }
+            }
+            mergedCount++;
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            root.setAttribute(COUNTERS[i], Long.toString(totals[i]));
+        }
+        write(merged, output);
+        return mergedCount;
+    }
+
+    private static DocumentBuilder newBuilder() throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setExpandEntityReferences(false);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("No XML parser available", e);
+        }
+    }
+
+    private static void write(Document document, Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (OutputStream out = Files.newOutputStream(output)) {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.transform(new DOMSource(document), new StreamResult(out));
+        } catch (TransformerException e) {
+            throw new IOException("Could not write " + output + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<Node> children(Element parent) {
+        NodeList nodes = parent.getChildNodes();
+        List<Node> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                elements.add(nodes.item(i));
+            }
+        }
+        return elements;
+    }
+
+    private static long parseCount(String value) {
+        try {
+            return value.isEmpty() ? 0 : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
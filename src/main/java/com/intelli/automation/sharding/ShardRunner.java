@@ -0,0 +1,139 @@
+package com.intelli.automation.sharding;
+
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.utils.ConfigReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shard runner following Intelli-Test framework
+ * Splits the suite into shard.count duration-balanced shards, runs each in its
+ * own TestNG JVM with its own browsers, then merges their results into one report
+ */
+public final class ShardRunner {
+
+    private static final Logger LOG = Logger.getLogger(ShardRunner.class);
+
+    private static final String RESULTS_FILE = "testng-results.xml";
+
+    /** JVM-owned properties that must not be copied onto the shard command lines */
+    private static final List<String> JVM_PROPERTY_PREFIXES = Arrays.asList(
+        "java.", "javax.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "awt.",
+        "native.", "stderr.", "stdout.", "classworlds.", "maven.", "library.", "exec.");
+
+    private ShardRunner() {
+    }
+
+    /**
+     * Run all shards and exit with the combined TestNG status
+     * @param args TestNG suite files, testng.xml when none are given
+     * @throws Exception if a shard cannot be started or the results cannot be merged
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> suites = args.length == 0 ? Arrays.asList("testng.xml") : Arrays.asList(args);
+        System.exit(run(suites));
+    }
+
+    /**
+     * Run all shards concurrently and merge their results
+     * @param suites TestNG suite files
+     * @return TestNG exit status of all shards OR-ed together, 0 if every test passed
+     * @throws IOException if a shard cannot be started or the results cannot be merged
+     * @throws InterruptedException if interrupted while shards are running
+     */
+    public static int run(List<String> suites) throws IOException, InterruptedException {
+        int shardCount = ConfigReader.getShardCount();
+        Path outputDir = Paths.get(ConfigReader.getShardOutputDir());
+        Files.createDirectories(outputDir);
+        Path history = freezeHistory(outputDir);
+        int threadsPerShard = ConfigReader.hasProperty("thread.count")
+            ? ConfigReader.getThreadCount()
+            : Math.max(1, ConfigReader.getThreadCount() / shardCount);
+        LOG.info("🧩 Running {} shard(s) with {} worker(s) each, output in {}", shardCount, threadsPerShard,
+            outputDir.toAbsolutePath());
+
+        List<Process> processes = new CopyOnWriteArrayList<>();
+        Thread cleanup = new Thread(() -> processes.forEach(Process::destroy), "shard-cleanup");
+        Runtime.getRuntime().addShutdownHook(cleanup);
+        List<Path> results = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Path shardDir = outputDir.resolve("shard-" + shard);
+            Files.createDirectories(shardDir);
+            results.add(shardDir.resolve(RESULTS_FILE));
+            processes.add(new ProcessBuilder(command(shard, shardCount, threadsPerShard, history, shardDir, suites))
+                .redirectErrorStream(true)
+                .redirectOutput(shardDir.resolve("console.log").toFile())
+                .start());
+        }
+
+        int status = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            int exitCode = processes.get(shard).waitFor();
+            status |= exitCode;
+            LOG.info("🧩 Shard {}/{} finished with exit code {}", shard + 1, shardCount, exitCode);
+        }
+        Runtime.getRuntime().removeShutdownHook(cleanup);
+
+        Path merged = outputDir.resolve(RESULTS_FILE);
+        int mergedCount = ShardResultMerger.merge(results, merged);
+        if (mergedCount < shardCount) {
+            LOG.warn("⚠️ Only {} of {} shard(s) produced results; see console.log in {}", mergedCount, shardCount,
+                outputDir.toAbsolutePath());
+            status |= 1;
+        }
+        LOG.info("📊 Merged shard results written to {}", merged.toAbsolutePath());
+        Logger.flush(1000);
+        return status;
+    }
+
+    /**
+     * Copy the duration history so every shard plans its split from identical data,
+     * even if another shard finishes and updates the history before it starts
+     */
+    private static Path freezeHistory(Path outputDir) throws IOException {
+        Path history = Paths.get(ConfigReader.getDurationHistoryFile());
+        Path frozen = outputDir.resolve("durations.snapshot.properties");
+        if (Files.isRegularFile(history)) {
+            Files.copy(history, frozen, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(frozen);
+        }
+        return frozen;
+    }
+
+    private static List<String> command(int shard, int shardCount, int threads, Path history, Path shardDir,
+            List<String> suites) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        Properties forwarded = System.getProperties();
+        for (String key : forwarded.stringPropertyNames()) {
+            if (JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith) && !key.startsWith("shard.")) {
+                command.add("-D" + key + "=" + forwarded.getProperty(key));
+            }
+        }
+        command.add("-Dshard.count=" + shardCount);
+        command.add("-Dshard.index=" + shard);
+        command.add("-Dshard.history.file=" + history.toAbsolutePath());
+        command.add("-Dthread.count=" + threads);
+        command.add("-Dmetrics.output.dir=" + shardDir.resolve("metrics").toAbsolutePath());
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(shardDir.toAbsolutePath().toString());
+        for (String suite : suites) {
+            command.add(new File(suite).getAbsolutePath());
+        }
+        return command;
+    }
+}
@@ -1,47 +1,181 @@
 package com.intelli.automation.utils;
 
-import java.io.FileInputStream;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.proxy.ProxyMode;
+import com.intelli.automation.server.FixtureServer;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
 /**
  * Configuration reader utility following Intelli-Test framework
- * Provides centralized configuration management
+ * Provides centralized configuration management backed by an immutable,
+ * atomically swapped snapshot so parallel test threads read without locks
  */
 public class ConfigReader {
     
-    private static Properties properties;
+    private static final Logger LOG = Logger.getLogger(ConfigReader.class);
+    
     private static final String CONFIG_FILE = "config.properties";
+    private static final String ENV_PREFIX = "INTELLI_";
+    private static final long PHYSICAL_MEMORY_MB = getPhysicalMemoryMb();
+    
+    private static volatile ConfigSnapshot snapshot;
+    private static Thread reloadWatcher;
     
     static {
-        loadProperties();
+        snapshot = loadSnapshot();
+        LOG.info("📋 Configuration loaded from {}", snapshot.getSource());
+        if (snapshot.getBoolean("config.reload.enabled", false)) {
+            startReloadWatcher();
+        }
     }
     
     /**
-     * Load properties from config file
+     * Get the current configuration snapshot
+     * Read once and reuse it when several values must be consistent with each other
+     * @return Immutable snapshot
      */
-    private static void loadProperties() {
-        properties = new Properties();
-        try {
-            FileInputStream fis = new FileInputStream(CONFIG_FILE);
-            properties.load(fis);
-            fis.close();
-            System.out.println("📋 Configuration loaded successfully");
+    public static ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * Rebuild the snapshot from all layers and swap it in atomically
+     * @return New snapshot
+     */
+    public static ConfigSnapshot reload() {
+        ConfigSnapshot reloaded = loadSnapshot();
+        snapshot = reloaded;
+        return reloaded;
+    }
+    
+    /**
+     * Merge configuration layers, later layers overriding earlier ones:
+     * defaults, classpath config.properties, config file, system properties,
+     * then INTELLI_* environment variables (INTELLI_BASE_URL sets base.url)
+     */
+    private static ConfigSnapshot loadSnapshot() {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> sources = new ArrayList<>();
+        setDefaultProperties(values);
+        sources.add("defaults");
+        
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (in != null) {
+                putAll(values, in);
+                sources.add("classpath:" + CONFIG_FILE);
+            }
         } catch (IOException e) {
-            System.out.println("⚠️ Config file not found, using default values");
-            setDefaultProperties();
+            LOG.warn("⚠️ Could not read classpath {}: {}", CONFIG_FILE, e.getMessage());
+        }
+        
+        Path configFile = getConfigFile();
+        if (Files.isRegularFile(configFile)) {
+            try (InputStream in = Files.newInputStream(configFile)) {
+                putAll(values, in);
+                sources.add(configFile.toString());
+            } catch (IOException e) {
+                LOG.warn("⚠️ Could not read {}: {}", configFile, e.getMessage());
+            }
+        }
+        
+        for (String key : System.getProperties().stringPropertyNames()) {
+            values.put(key, System.getProperty(key));
+        }
+        sources.add("system properties");
+        
+        for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+            if (entry.getKey().startsWith(ENV_PREFIX)) {
+                String key = entry.getKey().substring(ENV_PREFIX.length()).toLowerCase(Locale.ROOT).replace('_', '.');
+                values.put(key, entry.getValue());
+            }
+        }
+        sources.add("environment");
+        return new ConfigSnapshot(values, String.join(" < ", sources));
+    }
+    
+    private static void putAll(Map<String, String> values, InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
         }
     }
     
     /**
-     * Set default properties if config file is not found
+     * Set default properties, the lowest configuration layer
      */
-    private static void setDefaultProperties() {
-        properties.setProperty("base.url", "https://example.com");
-        properties.setProperty("username", "testuser");
-        properties.setProperty("password", "testpass");
-        properties.setProperty("timeout", "10");
-        properties.setProperty("browser", "chrome");
+    private static void setDefaultProperties(Map<String, String> values) {
+        values.put("base.url", "https://the-internet.herokuapp.com");
+        values.put("username", "testuser");
+        values.put("password", "testpass");
+        values.put("timeout", "10");
+        values.put("browser", "chrome");
+    }
+    
+    private static Path getConfigFile() {
+        return Paths.get(System.getProperty("config.file", CONFIG_FILE)).toAbsolutePath();
+    }
+    
+    /**
+     * Watch the config file and swap in a new snapshot when it changes
+     * Readers are never blocked: they keep using the old snapshot until the swap
+     */
+    private static synchronized void startReloadWatcher() {
+        if (reloadWatcher != null) {
+            return;
+        }
+        Path configFile = getConfigFile();
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            configFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOG.warn("⚠️ Config hot reload disabled: {}", e.getMessage());
+            return;
+        }
+        reloadWatcher = new Thread(() -> watchConfigFile(watchService, configFile), "config-reload");
+        reloadWatcher.setDaemon(true);
+        reloadWatcher.start();
+    }
+    
+    private static void watchConfigFile(WatchService watchService, Path configFile) {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (configFile.getFileName().equals(event.context())) {
+                    changed = true;
+                }
+            }
+            key.reset();
+            if (changed) {
+                reload();
+                LOG.info("🔄 Configuration reloaded from {}", snapshot.getSource());
+            }
+        }
     }
     
     /**
@@ -50,7 +184,7 @@ public class ConfigReader {
      * @return Property value
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.get(key);
     }
     
     /**
@@ -60,15 +194,19 @@ public class ConfigReader {
      * @return Property value or default
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return snapshot.get(key, defaultValue);
     }
     
     /**
      * Get base URL
+     * Points at the local fixture server while it is running
      * @return Base URL
      */
     public static String getBaseUrl() {
-        return getProperty("base.url", "https://example.com");
+        if (FixtureServer.isRunning()) {
+            return FixtureServer.getBaseUrl();
+        }
+        return getProperty("base.url", "https://the-internet.herokuapp.com");
     }
     
     /**
@@ -92,32 +230,568 @@ public class ConfigReader {
      * @return Timeout in seconds
      */
     public static int getTimeout() {
-        String timeout = getProperty("timeout", "10");
-        return Integer.parseInt(timeout);
+        return snapshot().getInt("timeout", 10);
     }
     
     /**
      * Get browser type
+     * "chrome" for a real browser, "fake" for the in-memory FakeWebDriver
      * @return Browser type
      */
     public static String getBrowser() {
         return getProperty("browser", "chrome");
     }
     
+    /**
+     * Get number of parallel test workers
+     * Defaults to what the machine's cores and physical memory can sustain
+     * @return Worker thread count
+     */
+    public static int getThreadCount() {
+        ConfigSnapshot config = snapshot();
+        if (config.contains("thread.count")) {
+            return config.getInt("thread.count", 1);
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        long byMemory = PHYSICAL_MEMORY_MB / config.getLong("browser.memory.mb", 512);
+        return (int) Math.max(1, Math.min(cores, byMemory));
+    }
+    
+    /**
+     * Get total physical memory of the machine
+     * @return Physical memory in MB, or Long.MAX_VALUE if unknown
+     */
+    @SuppressWarnings("deprecation")
+    private static long getPhysicalMemoryMb() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getTotalPhysicalMemorySize() / (1024 * 1024);
+        }
+        return Long.MAX_VALUE;
+    }
+    
+    /**
+     * Get initial polling interval for waits that cannot use DOM observers
+     * @return Interval in milliseconds
+     */
+    public static long getWaitInitialPollMillis() {
+        return snapshot().getLong("wait.poll.initial.ms", 5);
+    }
+    
+    /**
+     * Get upper bound for the adaptive wait polling interval
+     * @return Interval in milliseconds
+     */
+    public static long getWaitMaxPollMillis() {
+        return snapshot().getLong("wait.poll.max.ms", 200);
+    }
+    
+    /**
+     * Get maximum number of pooled WebDriver sessions
+     * @return Pool size
+     */
+    public static int getPoolSize() {
+        return snapshot().getInt("pool.size", getThreadCount());
+    }
+    
+    /**
+     * Get number of leases after which a pooled session is recycled
+     * @return Max uses per session
+     */
+    public static int getPoolMaxUses() {
+        return snapshot().getInt("pool.max.uses", 50);
+    }
+    
+    /**
+     * Get maximum time to wait for a free pooled session
+     * @return Lease timeout in seconds
+     */
+    public static int getPoolLeaseTimeout() {
+        return snapshot().getInt("pool.lease.timeout", 120);
+    }
+    
+    /**
+     * Get number of sessions launched in the background when test execution starts
+     * @return Sessions to pre-warm, at most the pool size; 0 disables pre-warming
+     */
+    public static int getPoolPrewarmCount() {
+        return Math.max(0, Math.min(snapshot().getInt("pool.prewarm", getPoolSize()), getPoolSize()));
+    }
+    
+    /**
+     * Check if a replacement session is launched in the background once the idle sessions run out
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isPoolLaunchAheadEnabled() {
+        return snapshot().getBoolean("pool.launch.ahead", true);
+    }
+    
+    /**
+     * Check if driver resolution must stay offline
+     * @return true if only chromedriver.path may be used
+     */
+    public static boolean isDriverOffline() {
+        return snapshot().getBoolean("driver.offline", false);
+    }
+    
+    /**
+     * Get preconfigured chromedriver binary path
+     * @return chromedriver path, or null if not configured
+     */
+    public static String getChromeDriverPath() {
+        return getProperty("chromedriver.path");
+    }
+    
+    /**
+     * Get directory where resolved driver binaries are cached
+     * @return Driver cache directory
+     */
+    public static String getDriverCacheDir() {
+        return getProperty("driver.cache.dir",
+            System.getProperty("user.home") + "/.cache/intelli-automation/drivers");
+    }
+    
+    /**
+     * Check if the local fixture server should serve the pages under test
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isFixtureServerEnabled() {
+        return snapshot().getBoolean("fixture.server.enabled", true);
+    }
+    
+    /**
+     * Get fixture server port
+     * @return Port, 0 for any free port
+     */
+    public static int getFixtureServerPort() {
+        return snapshot().getInt("fixture.server.port", 0);
+    }
+    
+    /**
+     * Get latency injected before each fixture response
+     * @return Latency in milliseconds
+     */
+    public static long getFixtureLatencyMillis() {
+        return snapshot().getLong("fixture.latency.ms", 0);
+    }
+    
+    /**
+     * Get bandwidth limit for fixture responses
+     * @return Bandwidth in KB per second, 0 for unlimited
+     */
+    public static int getFixtureBandwidthKbps() {
+        return snapshot().getInt("fixture.bandwidth.kbps", 0);
+    }
+    
+    /**
+     * Check if WebDriver commands are timed
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isCommandMetricsEnabled() {
+        return snapshot().getBoolean("metrics.enabled", true);
+    }
+    
+    /**
+     * Get directory for metrics reports
+     * @return Output directory
+     */
+    public static String getMetricsOutputDir() {
+        return getProperty("metrics.output.dir", "target/metrics");
+    }
+    
+    /**
+     * Get number of slowest commands listed at suite end
+     * @return Top-N size
+     */
+    public static int getMetricsTopN() {
+        return snapshot().getInt("metrics.top.n", 10);
+    }
+    
+    /**
+     * Check if tests are ordered longest-first from recorded durations
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isDurationSchedulingEnabled() {
+        return snapshot().getBoolean("schedule.enabled", true);
+    }
+    
+    /**
+     * Get file holding recorded test durations
+     * @return History file path
+     */
+    public static String getDurationHistoryFile() {
+        return getProperty("schedule.history.file", ".test-history/durations.properties");
+    }
+    
+    /**
+     * Get duration assumed for tests with no recorded history and no peers to estimate from
+     * @return Estimate in milliseconds
+     */
+    public static long getDefaultTestEstimateMillis() {
+        return snapshot().getLong("schedule.default.estimate.ms", 5000);
+    }
+    
+    /**
+     * Get number of shards the suite is split into, one JVM each
+     * @return Shard count, 1 for an unsharded run
+     */
+    public static int getShardCount() {
+        return Math.max(1, snapshot().getInt("shard.count", 1));
+    }
+    
+    /**
+     * Get the shard this JVM runs
+     * @return Zero-based shard index
+     */
+    public static int getShardIndex() {
+        int index = snapshot().getInt("shard.index", 0);
+        if (index < 0 || index >= getShardCount()) {
+            throw new IllegalStateException("shard.index " + index + " is outside 0.." + (getShardCount() - 1));
+        }
+        return index;
+    }
+    
+    /**
+     * Get history file that durations are estimated from
+     * Shards of one run must all plan from the same copy to agree on the split
+     * @return History file path
+     */
+    public static String getShardHistoryFile() {
+        return getProperty("shard.history.file", getDurationHistoryFile());
+    }
+    
+    /**
+     * Get directory where sharded runs write per-shard output and the merged report
+     * @return Output directory
+     */
+    public static String getShardOutputDir() {
+        return getProperty("shard.output.dir", "target/shards");
+    }
+    
+    /**
+     * Get record/replay proxy mode
+     * @return off, record, replay or auto
+     */
+    public static ProxyMode getProxyMode() {
+        return ProxyMode.parse(getProperty("proxy.mode", "off"));
+    }
+    
+    /**
+     * Get directory holding recorded HTTP responses
+     * @return Archive directory
+     */
+    public static String getProxyArchiveDir() {
+        return getProperty("proxy.archive.dir", ".http-archive");
+    }
+    
+    /**
+     * Get record/replay proxy port
+     * @return Port, 0 for any free port
+     */
+    public static int getProxyPort() {
+        return snapshot().getInt("proxy.port", 0);
+    }
+    
+    /**
+     * Get body size from which replayed responses are memory-mapped instead of read onto the heap
+     * @return Threshold in bytes
+     */
+    public static long getProxyMapThresholdBytes() {
+        return snapshot().getLong("proxy.mmap.threshold.kb", 64) * 1024;
+    }
+    
+    /**
+     * Check if Chrome runs with the fast profile
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isFastProfileEnabled() {
+        return snapshot().getBoolean("fast.profile.enabled", false);
+    }
+    
+    /**
+     * Check if the fast profile runs Chrome headless
+     * @return true if headless, false otherwise
+     */
+    public static boolean isFastProfileHeadless() {
+        return snapshot().getBoolean("fast.profile.headless", true);
+    }
+    
+    /**
+     * Get page-load strategy of the fast profile
+     * @return normal, eager or none
+     */
+    public static String getFastProfilePageLoadStrategy() {
+        return getProperty("fast.profile.page.load.strategy", "eager");
+    }
+    
+    /**
+     * Get fixed window size of the fast profile
+     * @return Size as width,height
+     */
+    public static String getFastProfileWindowSize() {
+        return getProperty("fast.profile.window.size", "1024,768");
+    }
+    
+    /**
+     * Get DevTools resource types the fast profile blocks
+     * @return Types such as image, font, media, stylesheet, script
+     */
+    public static List<String> getFastProfileBlockedTypes() {
+        return getList("fast.profile.block.types", "image,font,media");
+    }
+    
+    /**
+     * Get URL patterns the fast profile blocks; * matches any characters
+     * @return URL patterns
+     */
+    public static List<String> getFastProfileBlockedUrls() {
+        return getList("fast.profile.block.urls",
+            "*google-analytics.com/*,*googletagmanager.com/*,*doubleclick.net/*,*facebook.net/*");
+    }
+    
+    /**
+     * Get file holding average navigation times measured without the fast profile
+     * @return Baseline file path
+     */
+    public static String getPageLoadBaselineFile() {
+        return getProperty("fast.profile.baseline.file", ".test-history/page-loads.properties");
+    }
+    
+    private static List<String> getList(String key, String defaultValue) {
+        List<String> values = new ArrayList<>();
+        for (String value : getProperty(key, defaultValue).split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Check if page timings are captured after each page-object navigation
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isPagePerformanceEnabled() {
+        return snapshot().getBoolean("perf.capture.enabled", true);
+    }
+    
+    /**
+     * Get time-series file page timings are appended to
+     * @return CSV file path
+     */
+    public static String getPagePerformanceFile() {
+        return getProperty("perf.timeseries.file", ".test-history/page-performance.csv");
+    }
+    
+    /**
+     * Get budget for one page metric: perf.budget.&lt;path&gt;.&lt;metric&gt;, else perf.budget.*.&lt;metric&gt;
+     * e.g. perf.budget./inputs.domContentLoaded=800
+     * @param page Page path
+     * @param metric Metric name
+     * @return Budget in milliseconds (a count for longTaskCount), or null if there is none
+     */
+    public static Long getPerformanceBudget(String page, String metric) {
+        ConfigSnapshot config = snapshot();
+        String pageKey = "perf.budget." + page + "." + metric;
+        if (config.contains(pageKey)) {
+            return config.getLong(pageKey, 0);
+        }
+        String defaultKey = "perf.budget.*." + metric;
+        return config.contains(defaultKey) ? config.getLong(defaultKey, 0) : null;
+    }
+    
+    /**
+     * Check if exceeding a performance budget fails the test rather than logging a warning
+     * @return true if perf.budget.action is fail
+     */
+    public static boolean isPerformanceBudgetFailing() {
+        return "fail".equalsIgnoreCase(getProperty("perf.budget.action", "warn"));
+    }
+    
+    /**
+     * Get identifier of the current build, used to group time-series rows
+     * @return build.id, else the CI build number, else "local"
+     */
+    public static String getBuildId() {
+        String buildId = getProperty("build.id");
+        if (buildId == null) {
+            buildId = System.getenv("BUILD_NUMBER");
+        }
+        if (buildId == null) {
+            buildId = System.getenv("GITHUB_RUN_ID");
+        }
+        return buildId == null ? "local" : buildId;
+    }
+    
+    /**
+     * Check if browser memory and layout counters are sampled at test boundaries
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isSessionTelemetryEnabled() {
+        return snapshot().getBoolean("telemetry.enabled", true);
+    }
+    
+    /**
+     * Get number of consecutive leases over which heap growth flags a session
+     * @return Window in leases
+     */
+    public static int getTelemetryLeakWindow() {
+        return Math.max(1, snapshot().getInt("telemetry.leak.window", 5));
+    }
+    
+    /**
+     * Get heap growth over the window above which a session is flagged
+     * @return Threshold in MB
+     */
+    public static long getTelemetryLeakThresholdMb() {
+        return snapshot().getLong("telemetry.leak.threshold.mb", 50);
+    }
+    
+    /**
+     * Check if flagged sessions are quit instead of returned to the pool
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isTelemetryLeakRecycleEnabled() {
+        return snapshot().getBoolean("telemetry.leak.recycle", false);
+    }
+    
+    /**
+     * Get text-entry mode of a page-object field
+     * e.g. text.entry.mode.SamplePage.inputField=insert, falling back to text.entry.mode
+     * @param field Page.field, or null for elements not bound to a field
+     * @return native, setter, insert or auto
+     */
+    public static String getTextEntryMode(String field) {
+        String mode = field == null ? null : getProperty("text.entry.mode." + field);
+        return mode != null ? mode : getProperty("text.entry.mode", "auto");
+    }
+    
+    /**
+     * Get text length from which auto mode stops typing key by key
+     * @return Length in characters
+     */
+    public static int getTextEntryFastMinChars() {
+        return snapshot().getInt("text.entry.fast.min.chars", 64);
+    }
+    
+    /**
+     * Get number of tabs a tab scheduler runs scenarios in at once
+     * @return Tab limit; 1 runs scenarios one after another in the current tab
+     */
+    public static int getTabLimit() {
+        return Math.max(1, snapshot().getInt("tabs.max", 4));
+    }
+    
+    /**
+     * Get CSV or JSON file of input cases run by the input matrix
+     * @return Input case file path
+     */
+    public static String getInputMatrixFile() {
+        return getProperty("matrix.cases.file", "src/test/resources/data/input-cases.csv");
+    }
+    
+    /**
+     * Get number of input cases run against one page load
+     * @return Batch size
+     */
+    public static int getInputMatrixBatchSize() {
+        return Math.max(1, snapshot().getInt("matrix.batch.size", 500));
+    }
+    
+    /**
+     * Check if Chrome runs headless outside the fast profile
+     * @return true if headless, false otherwise
+     */
+    public static boolean isHeadless() {
+        return snapshot().getBoolean("browser.headless", false);
+    }
+    
+    /**
+     * Get number of concurrent virtual users of the load generator
+     * @return Users, each with its own browser session
+     */
+    public static int getLoadUsers() {
+        return Math.max(1, snapshot().getInt("load.users", 4));
+    }
+    
+    /**
+     * Get time over which the load generator starts its users
+     * @return Ramp-up in seconds
+     */
+    public static int getLoadRampUpSeconds() {
+        return Math.max(0, snapshot().getInt("load.ramp.up", 10));
+    }
+    
+    /**
+     * Get time the load generator keeps all users running after ramp-up
+     * @return Hold phase in seconds
+     */
+    public static int getLoadHoldSeconds() {
+        return Math.max(0, snapshot().getInt("load.hold", 60));
+    }
+    
+    /**
+     * Get pause of a virtual user between flow steps
+     * @return Think time in milliseconds
+     */
+    public static long getLoadThinkMillis() {
+        return Math.max(0, snapshot().getLong("load.think.ms", 500));
+    }
+    
+    /**
+     * Get file holding the stored benchmark results compared against
+     * @return Baseline file path
+     */
+    public static String getBenchmarkBaselineFile() {
+        return getProperty("benchmark.baseline.file", ".test-history/benchmark-baseline.properties");
+    }
+    
+    /**
+     * Get change from the baseline beyond which a benchmark counts as regressed
+     * @return Tolerance in percent of the baseline
+     */
+    public static int getBenchmarkTolerancePercent() {
+        return Math.max(0, snapshot().getInt("benchmark.tolerance.pct", 10));
+    }
+    
+    /**
+     * Check if failed tests capture a screenshot, page source, console log and command trace
+     * @return true if failure artifacts are captured
+     */
+    public static boolean isFailureArtifactsEnabled() {
+        return snapshot().getBoolean("artifacts.enabled", true);
+    }
+    
+    /**
+     * Get directory receiving one zip of artifacts per failed test
+     * @return Failure artifact directory
+     */
+    public static String getFailureArtifactsDir() {
+        return getProperty("artifacts.dir", "target/failure-artifacts");
+    }
+    
+    /**
+     * Get disk space failure artifacts may use before the oldest are deleted
+     * @return Budget in megabytes
+     */
+    public static int getFailureArtifactsBudgetMb() {
+        return Math.max(1, snapshot().getInt("artifacts.budget.mb", 200));
+    }
+    
     /**
      * Check if property exists
      * @param key Property key
      * @return true if exists, false otherwise
      */
     public static boolean hasProperty(String key) {
-        return properties.containsKey(key);
+        return snapshot.contains(key);
     }
     
     /**
      * Get all properties
-     * @return Properties object
+     * @return Independent copy of the current snapshot
      */
     public static Properties getAllProperties() {
-        return properties;
+        return snapshot.toProperties();
     }
 } 
@@ -0,0 +1,130 @@
+package com.intelli.automation.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Configuration snapshot following Intelli-Test framework
+ * Immutable view of the merged configuration layers. Typed lookups are parsed
+ * once per snapshot and memoised, so hot-path reads are lock-free map lookups
+ */
+public final class ConfigSnapshot {
+
+    private final Map<String, String> values;
+    private final Map<String, Object> parsedInts = new ConcurrentHashMap<>();
+    private final Map<String, Object> parsedLongs = new ConcurrentHashMap<>();
+    private final Map<String, Object> parsedBooleans = new ConcurrentHashMap<>();
+    private final String source;
+
+    ConfigSnapshot(Map<String, String> values, String source) {
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        this.source = source;
+    }
+
+    /**
+     * Get property value
+     * @param key Property key
+     * @return Property value, or null if not set
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Get property value with default
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Property value or default
+     */
+    public String get(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get integer property, parsed once per snapshot
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Parsed value
+     */
+    public int getInt(String key, int defaultValue) {
+        return parse(parsedInts, key, defaultValue, value -> Integer.parseInt(value.trim()));
+    }
+
+    /**
+     * Get long property, parsed once per snapshot
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Parsed value
+     */
+    public long getLong(String key, long defaultValue) {
+        return parse(parsedLongs, key, defaultValue, value -> Long.parseLong(value.trim()));
+    }
+
+    /**
+     * Get boolean property, parsed once per snapshot
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Parsed value
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return parse(parsedBooleans, key, defaultValue, value -> Boolean.parseBoolean(value.trim()));
+    }
+
+    /**
+     * Check if property exists
+     * @param key Property key
+     * @return true if exists, false otherwise
+     */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Get all properties as a read-only map
+     * @return Property map
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * Copy all properties into a new Properties object
+     * @return Independent copy
+     */
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        properties.putAll(values);
+        return properties;
+    }
+
+    /**
+     * Describe the layers this snapshot was built from
+     * @return Source description
+     */
+    public String getSource() {
+        return source;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T parse(Map<String, Object> parsed, String key, T defaultValue, Function<String, T> parser) {
+        Object cached = parsed.get(key);
+        if (cached == null) {
+            String value = values.get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                cached = parser.apply(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + key + ": '" + value + "'", e);
+            }
+            parsed.putIfAbsent(key, cached);
+        }
+        return (T) cached;
+    }
+}
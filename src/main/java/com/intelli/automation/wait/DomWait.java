@@ -0,0 +1,152 @@
+package com.intelli.automation.wait;
+
+import com.intelli.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event-driven wait following Intelli-Test framework
+ * Resolves conditions inside the page as soon as the DOM or layout changes,
+ * falling back to adaptive backoff polling when that is not possible
+ */
+public class DomWait {
+
+    /**
+     * arguments: element, timeout in ms, async callback.
+     * Re-checks on every DOM mutation and on every animation frame (for style and
+     * layout changes that do not mutate the DOM); gives up with false on timeout.
+     */
+    private static final String OBSERVE_SCRIPT_TEMPLATE =
+        "var el = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+        + "function check() { try { return !!(%s); } catch (e) { return false; } }"
+        + "if (check()) { done(true); return; }"
+        + "var finished = false, observer, timer;"
+        + "function finish(result) {"
+        + "  if (finished) { return; }"
+        + "  finished = true; observer.disconnect(); clearTimeout(timer); done(result);"
+        + "}"
+        + "observer = new MutationObserver(function() { if (check()) { finish(true); } });"
+        + "observer.observe(document, {attributes: true, childList: true, subtree: true, characterData: true});"
+        + "(function frame() { if (finished) { return; } if (check()) { finish(true); return; }"
+        + "  requestAnimationFrame(frame); })();"
+        + "timer = setTimeout(function() { finish(check()); }, timeout);";
+
+    private static final Map<ElementCondition, String> SCRIPTS = new EnumMap<>(ElementCondition.class);
+
+    static {
+        for (ElementCondition condition : ElementCondition.values()) {
+            SCRIPTS.put(condition, String.format(OBSERVE_SCRIPT_TEMPLATE, condition.script()));
+        }
+    }
+
+    private final WebDriver driver;
+    private final long timeoutMillis;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+
+    public DomWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeoutMillis = timeout.toMillis();
+        this.initialPollMillis = Math.max(1, ConfigReader.getWaitInitialPollMillis());
+        this.maxPollMillis = Math.max(initialPollMillis, ConfigReader.getWaitMaxPollMillis());
+    }
+
+    /**
+     * Wait for element to be visible
+     * @param element WebElement to wait for
+     */
+    public void untilVisible(WebElement element) {
+        until(ElementCondition.VISIBLE, element);
+    }
+
+    /**
+     * Wait for element to be visible and enabled
+     * @param element WebElement to wait for
+     */
+    public void untilClickable(WebElement element) {
+        until(ElementCondition.CLICKABLE, element);
+    }
+
+    /**
+     * Wait for a condition on an element
+     * @param condition Condition to satisfy
+     * @param element WebElement to check
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public void until(ElementCondition condition, WebElement element) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        boolean observe = driver instanceof JavascriptExecutor;
+        long pollMillis = initialPollMillis;
+        Exception lastError = null;
+        while (true) {
+            try {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                boolean satisfied = observe
+                    ? observe(condition, element, Math.max(0, remainingMillis))
+                    : condition.test(element);
+                if (satisfied) {
+                    WaitStats.record(condition.name(), System.nanoTime() - start, true);
+                    return;
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                // Element is not attached yet; poll until it is
+                lastError = e;
+                if (element instanceof Relocatable) {
+                    // The observer script received the old element; locate it again next time
+                    ((Relocatable) element).invalidate();
+                }
+            } catch (WebDriverException e) {
+                // Page cannot run the observer script (e.g. navigation in progress); poll instead
+                lastError = e;
+                observe = false;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                WaitStats.record(condition.name(), System.nanoTime() - start, false);
+                throw new TimeoutException("Expected condition " + condition + " not met within "
+                    + timeoutMillis + " ms for " + element, lastError);
+            }
+            sleep(Math.min(pollMillis, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 1));
+            pollMillis = Math.min(pollMillis * 2, maxPollMillis);
+        }
+    }
+
+    /**
+     * Check a condition once without waiting
+     * @param condition Condition to check
+     * @param element WebElement to check
+     * @return true if the condition holds now, false otherwise
+     */
+    public boolean isSatisfied(ElementCondition condition, WebElement element) {
+        try {
+            return condition.test(element);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean observe(ElementCondition condition, WebElement element, long remainingMillis) {
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPTS.get(condition), element,
+            remainingMillis);
+        return Boolean.TRUE.equals(result);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(1, millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.intelli.automation.wait;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.function.Predicate;
+
+/**
+ * Element conditions following Intelli-Test framework
+ * Each condition is expressed both as an in-page predicate on {@code el}
+ * and as the equivalent WebDriver check used when scripts are unavailable
+ */
+public enum ElementCondition {
+
+    VISIBLE(ElementCondition.VISIBLE_JS,
+        WebElement::isDisplayed),
+
+    ENABLED("el.isConnected && !el.disabled",
+        WebElement::isEnabled),
+
+    CLICKABLE(ElementCondition.VISIBLE_JS + " && !el.disabled",
+        element -> element.isDisplayed() && element.isEnabled());
+
+    private static final String VISIBLE_JS = "el.isConnected"
+        + " && getComputedStyle(el).display !== 'none'"
+        + " && getComputedStyle(el).visibility !== 'hidden'"
+        + " && (el.getBoundingClientRect().width > 0 || el.getBoundingClientRect().height > 0)";
+
+    private final String script;
+    private final Predicate<WebElement> check;
+
+    ElementCondition(String script, Predicate<WebElement> check) {
+        this.script = script;
+        this.check = check;
+    }
+
+    /**
+     * Get the in-page predicate
+     * @return JavaScript expression over {@code el}
+     */
+    String script() {
+        return script;
+    }
+
+    /**
+     * Evaluate the condition through WebDriver commands
+     * @param element Element to check
+     * @return true if the condition holds
+     */
+    boolean test(WebElement element) {
+        return check.test(element);
+    }
+}
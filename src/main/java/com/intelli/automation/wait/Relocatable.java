@@ -0,0 +1,14 @@
+package com.intelli.automation.wait;
+
+/**
+ * Relocatable element following Intelli-Test framework
+ * Implemented by elements that resolve a locator on use, so a wait can drop a stale
+ * reference it passed to the browser and have the next check locate the element again
+ */
+public interface Relocatable {
+
+    /**
+     * Forget the located element so the next command locates it again
+     */
+    void invalidate();
+}
@@ -0,0 +1,69 @@
+package com.intelli.automation.wait;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait statistics following Intelli-Test framework
+ * Records how long each wait condition took to resolve, across all threads
+ */
+public final class WaitStats {
+
+    private static final Map<String, ConditionStats> STATS = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    /**
+     * Record one resolved or timed-out wait
+     * @param condition Condition name
+     * @param elapsedNanos Time spent waiting
+     * @param satisfied true if the condition was met, false on timeout
+     */
+    static void record(String condition, long elapsedNanos, boolean satisfied) {
+        STATS.computeIfAbsent(condition, key -> new ConditionStats()).record(elapsedNanos, satisfied);
+    }
+
+    /**
+     * Get per-condition latency summary
+     * @return One line per condition
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, ConditionStats> entry : new TreeMap<>(STATS).entrySet()) {
+            ConditionStats stats = entry.getValue();
+            long count = stats.count.sum();
+            summary.append(String.format("%n   %s: waits=%d, timeouts=%d, avg=%.1f ms, max=%.1f ms",
+                entry.getKey(), count, stats.timeouts.sum(),
+                count == 0 ? 0 : stats.totalNanos.sum() / (double) count / 1_000_000,
+                stats.maxNanos.get() / 1_000_000.0));
+        }
+        return summary.length() == 0 ? " no waits recorded" : summary.toString();
+    }
+
+    /**
+     * Clear all recorded statistics
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static final class ConditionStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long elapsedNanos, boolean satisfied) {
+            count.increment();
+            if (!satisfied) {
+                timeouts.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+    }
+}
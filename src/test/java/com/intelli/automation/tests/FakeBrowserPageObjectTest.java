@@ -0,0 +1,233 @@
+package com.intelli.automation.tests;
+
+import com.intelli.automation.artifacts.FailureArtifacts;
+import com.intelli.automation.base.ElementCache;
+import com.intelli.automation.base.FieldSnapshot;
+import com.intelli.automation.data.InputCaseReader;
+import com.intelli.automation.data.InputMatrix;
+import com.intelli.automation.driver.TabScenario;
+import com.intelli.automation.driver.TabScheduler;
+import com.intelli.automation.driver.fake.FakeWebDriver;
+import com.intelli.automation.pages.SamplePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+/**
+ * Page object tests against the in-memory fake browser
+ * Runs SamplePage logic without launching Chrome
+ */
+public class FakeBrowserPageObjectTest {
+
+    private static final String BASE_URL = "http://fixtures.local";
+
+    private WebDriver driver;
+    private SamplePage samplePage;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver();
+        samplePage = new SamplePage(driver);
+        samplePage.navigateToInputsPage(BASE_URL + SamplePage.INPUTS_PATH);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Test(description = "Fake browser loads the inputs fixture")
+    public void testInputsPageLoads() {
+        Assert.assertEquals(samplePage.getPageTitle(), "The Internet");
+        Assert.assertEquals(samplePage.getCurrentUrl(), BASE_URL + SamplePage.INPUTS_PATH);
+        Assert.assertTrue(samplePage.isInputFieldDisplayed(), "Input field should be displayed");
+    }
+
+    @Test(description = "Validate input field through the page object")
+    public void testValidateInputField() {
+        samplePage.typeInInputField("123");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "123");
+
+        samplePage.clearInputField();
+        Assert.assertEquals(samplePage.getInputFieldValue(), "");
+    }
+
+    @Test(description = "Number input drops non-numeric keystrokes like a browser")
+    public void testNumberInputFiltering() {
+        samplePage.typeInInputField("abc");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "", "Letters should be filtered");
+
+        samplePage.typeInInputField("-456");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "-456");
+
+        samplePage.typeInInputField("789.123");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "789.123");
+
+        samplePage.typeInInputField("1e");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "", "Incomplete exponent is not a valid number");
+    }
+
+    @Test(description = "Form field operations leave the last value in place")
+    public void testFormFieldOperations() {
+        samplePage.testFormFieldOperations();
+
+        FieldSnapshot snapshot = samplePage.getInputFieldSnapshot();
+        Assert.assertEquals(snapshot.getValue(), "", "Special characters are filtered from number input");
+        Assert.assertTrue(snapshot.isDisplayed());
+        Assert.assertTrue(snapshot.isEnabled());
+    }
+
+    @Test(description = "Batched entry falls back to per-element commands without a script engine")
+    public void testBatchedEntry() {
+        Assert.assertEquals(samplePage.enterInputValues("123", "-456").get(1).getValue(), "-456");
+    }
+
+    @Test(description = "Page-object fields locate their element again after navigation")
+    public void testFieldsSurviveNavigation() {
+        samplePage.typeInInputField("123");
+        driver.get(BASE_URL + "/");
+        samplePage.navigateToInputsPage(BASE_URL + SamplePage.INPUTS_PATH);
+
+        Assert.assertEquals(samplePage.getInputFieldValue(), "", "Reloaded page starts empty");
+        samplePage.typeInInputField("456");
+        Assert.assertEquals(samplePage.getInputFieldValue(), "456");
+    }
+
+    @Test(description = "Element cache reuses lookups until the document changes")
+    public void testElementCache() {
+        ElementCache cache = new ElementCache(driver);
+        By input = By.tagName("input");
+        WebElement first = cache.find(input);
+        Assert.assertSame(cache.find(input), first, "Same document should be served from the cache");
+
+        driver.navigate().refresh();
+        ElementCache.documentChanged(driver);
+        WebElement reloaded = cache.find(input);
+        Assert.assertNotSame(reloaded, first, "New document should be located again");
+        Assert.assertEquals(reloaded.getAttribute("value"), "");
+    }
+
+    @Test(description = "Tab scheduler runs scenarios in their own tabs and closes them")
+    public void testTabScheduler() {
+        String home = driver.getWindowHandle();
+        Map<String, Set<String>> handles = new HashMap<>();
+        TabScenario[] scenarios = new TabScenario[3];
+        for (int i = 0; i < scenarios.length; i++) {
+            String value = String.valueOf(i + 1);
+            Set<String> scenarioHandles = new HashSet<>();
+            handles.put(value, scenarioHandles);
+            scenarios[i] = TabScenario.named("tab-" + value).open(BASE_URL + SamplePage.INPUTS_PATH)
+                .step(d -> scenarioHandles.add(d.getWindowHandle()))
+                .step(d -> new SamplePage(d).typeInInputField(value))
+                .step(d -> scenarioHandles.add(d.getWindowHandle()))
+                .step(d -> Assert.assertEquals(new SamplePage(d).getInputFieldValue(), value));
+        }
+        new TabScheduler(driver, 2).run(scenarios);
+
+        // A queued scenario takes over the tab of a finished one, so tabs never exceed the limit
+        Set<String> used = new HashSet<>();
+        for (Map.Entry<String, Set<String>> scenario : handles.entrySet()) {
+            Assert.assertEquals(scenario.getValue().size(), 1,
+                "Scenario " + scenario.getKey() + " should run, in one tab");
+            used.addAll(scenario.getValue());
+        }
+        Assert.assertTrue(used.size() <= 2, "At most two tabs should be used: " + used);
+        Assert.assertEquals(driver.getWindowHandles(), Collections.singleton(home), "Extra tabs should be closed");
+        Assert.assertEquals(driver.getWindowHandle(), home);
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> new TabScheduler(driver).run(
+            TabScenario.named("failing").step(d -> Assert.fail("boom")),
+            TabScenario.named("passing").open(BASE_URL + SamplePage.INPUTS_PATH)));
+        Assert.assertTrue(error.getMessage().contains("[failing]"), error.getMessage());
+        Assert.assertEquals(driver.getWindowHandles().size(), 1);
+    }
+
+    @Test(description = "Input matrix streams CSV and JSON cases and reports failures per case")
+    public void testInputMatrix() throws IOException {
+        Path dir = Files.createTempDirectory("input-matrix");
+        Path csv = Files.write(dir.resolve("cases.csv"), Arrays.asList(
+            "field,value,expected", "inputField,123,123", ",abc,", "inputField,\"-4,5\",-4", "inputField,7,8"));
+        Path json = Files.write(dir.resolve("cases.json"), Arrays.asList(
+            "[{\"value\": \"789.123\"}, {\"field\": \"missingField\", \"value\": \"1\"}]"));
+        InputMatrix matrix = new InputMatrix(samplePage, BASE_URL + SamplePage.INPUTS_PATH, 2,
+            dir.resolve("failures.csv"));
+
+        InputMatrix.Result result;
+        try (InputCaseReader cases = InputCaseReader.open(csv)) {
+            result = matrix.run(cases);
+        }
+        Assert.assertEquals(result.getTotal(), 4);
+        Assert.assertEquals(result.getBatches(), 2, "Each batch should load the page once");
+        Assert.assertEquals(result.getFailed(), 2, result.toString());
+        Assert.assertTrue(result.getFailures().get(0).startsWith("cases.csv:4 "), result.toString());
+        Assert.assertTrue(result.getFailures().get(1).startsWith("cases.csv:5 "), result.toString());
+
+        try (InputCaseReader cases = InputCaseReader.open(json)) {
+            result = matrix.run(cases);
+        }
+        Assert.assertEquals(result.getTotal(), 2);
+        Assert.assertEquals(result.getFailed(), 1, "Only the case naming a missing field should fail");
+        Assert.assertEquals(Files.readAllLines(dir.resolve("failures.csv")).size(), 2);
+    }
+
+    @Test(description = "Failure artifacts are zipped in the background and kept within the disk budget")
+    public void testFailureArtifacts() throws IOException {
+        Path dir = Files.createTempDirectory("failure-artifacts");
+        // A one-byte budget leaves only the newest zip
+        FailureArtifacts artifacts = new FailureArtifacts(dir, 1);
+        for (int i = 0; i < 3; i++) {
+            artifacts.capture(driver, "FakeBrowserPageObjectTest.failing" + i, new AssertionError("boom " + i), 0);
+        }
+        Assert.assertTrue(artifacts.shutdown(10000), "Zips should be written");
+
+        Set<Path> zips;
+        try (Stream<Path> files = Files.list(dir)) {
+            zips = files.collect(Collectors.toSet());
+        }
+        Assert.assertEquals(zips.size(), 1, zips.toString());
+        Path newest = zips.iterator().next();
+        Assert.assertTrue(newest.getFileName().toString().startsWith("FakeBrowserPageObjectTest.failing2-"),
+            newest.toString());
+        try (ZipFile zip = new ZipFile(newest.toFile())) {
+            Assert.assertNotNull(zip.getEntry("failure.txt"));
+            Assert.assertNotNull(zip.getEntry("page-source.html"));
+            // The fake browser has neither screenshots nor console logs
+            Assert.assertNull(zip.getEntry("screenshot.png"));
+            Assert.assertNull(zip.getEntry("console.log"));
+        }
+        Assert.assertTrue(artifacts.getSummary().contains("evicted=2"), artifacts.getSummary());
+    }
+
+    @Test(description = "Links navigate and leave old elements stale")
+    public void testLinkNavigation() {
+        driver.get(BASE_URL + "/");
+        WebElement link = driver.findElement(By.linkText("Inputs"));
+        Assert.assertEquals(driver.findElements(By.cssSelector("#content ul > li a")).size(), 9);
+
+        link.click();
+        Assert.assertEquals(driver.getCurrentUrl(), BASE_URL + "/inputs");
+        Assert.assertThrows(StaleElementReferenceException.class, link::getText);
+
+        driver.navigate().back();
+        Assert.assertEquals(driver.findElement(By.xpath("//h1[@class='heading']")).getText(),
+            "Welcome to the-internet");
+    }
+}
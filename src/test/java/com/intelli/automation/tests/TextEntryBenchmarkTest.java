@@ -0,0 +1,48 @@
+package com.intelli.automation.tests;
+
+import com.intelli.automation.base.BaseTest;
+import com.intelli.automation.base.TextEntryMode;
+import com.intelli.automation.logging.Logger;
+import com.intelli.automation.pages.SamplePage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Text entry benchmark following Intelli-Test framework
+ * Enters the same long payload in every mode and logs characters per second
+ * In the benchmark group and kept out of testng.xml; run with mvn test -Dtest=TextEntryBenchmarkTest
+ */
+public class TextEntryBenchmarkTest extends BaseTest {
+    
+    private static final Logger LOG = Logger.getLogger(TextEntryBenchmarkTest.class);
+    private static final int PAYLOAD_CHARS = 4096;
+    private static final int ROUNDS = 3;
+    
+    @Test(groups = "benchmark", description = "Compare characters per second of each text entry mode")
+    public void benchmarkTextEntryModes() {
+        SamplePage samplePage = new SamplePage();
+        samplePage.navigateToInputsPage();
+        
+        // The inputs page field is a number input: a long fraction stays a valid number,
+        // where a long integer would overflow and be sanitised to empty
+        StringBuilder payload = new StringBuilder(PAYLOAD_CHARS).append("0.");
+        while (payload.length() < PAYLOAD_CHARS) {
+            payload.append((char) ('1' + payload.length() % 9));
+        }
+        String text = payload.toString();
+        
+        for (TextEntryMode mode : TextEntryMode.values()) {
+            // Warm-up round, not timed
+            samplePage.typeInInputField(text, mode);
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                samplePage.typeInInputField(text, mode);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Assert.assertEquals(samplePage.getInputFieldValue(), text, mode + " should enter the whole payload");
+            LOG.info("⌨️ {} {} chars/s ({} x {} chars in {} s)", String.format("%-12s", mode),
+                String.format("%,10.0f", ROUNDS * PAYLOAD_CHARS / seconds), ROUNDS, PAYLOAD_CHARS,
+                String.format("%.2f", seconds));
+        }
+    }
+}